@@ -0,0 +1,76 @@
+package de.team33.libs.typing.v4;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of {@link Type}s for {@code Map<String, List<Integer>>} by the different means of
+ * construction and the mapping of {@link java.lang.reflect.Type}s by {@link RawTypes}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstructionBenchmark {
+
+    private final Type<String> stringType = Type.of(String.class);
+    private final Type<Integer> integerType = Type.of(Integer.class);
+    private final java.lang.reflect.Type genericType = getGenericType();
+    private final TypeParser parser = TypeParser.using(getClass().getClassLoader(), "java.util");
+
+    private static java.lang.reflect.Type getGenericType() {
+        try {
+            return Sample.class.getDeclaredField("field").getGenericType();
+        } catch (final NoSuchFieldException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Benchmark
+    public final Type<Map<String, List<Integer>>> derivative() {
+        return new Type<Map<String, List<Integer>>>() {
+        };
+    }
+
+    @Benchmark
+    public final Type<Map<String, List<Integer>>> parameterized() {
+        return Type.parameterized(Map.class, stringType, Type.parameterized(List.class, integerType));
+    }
+
+    @Benchmark
+    public final RawType of() {
+        return Type.of(Map.class);
+    }
+
+    @Benchmark
+    public final RawType mapClass() {
+        return RawTypes.map(Map.class);
+    }
+
+    @Benchmark
+    public final RawType mapGeneric() {
+        return RawTypes.map(genericType);
+    }
+
+    @Benchmark
+    public final RawType parse() {
+        return parser.parse("Map<String, List<Integer>>");
+    }
+
+    private static class Sample {
+        private Map<String, List<Integer>> field;
+    }
+}
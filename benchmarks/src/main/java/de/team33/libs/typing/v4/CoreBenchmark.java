@@ -0,0 +1,116 @@
+package de.team33.libs.typing.v4;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * <p>Compares {@code equals} and {@code hashCode} of {@link Core} (and thus {@link RawType}) for
+ * {@code Map<String, List<Set<Integer>>>} with the former representation ({@link Legacy}).</p>
+ * <p>{@link #equalsType()} compares canonical instances, which usually takes the identity shortcut.
+ * {@link #equalsCore()} compares an equal but distinct {@link Core}, as the interning of a newly built type does,
+ * and is therefore the counterpart of {@link #equalsLegacy()}. Its actual parameters are canonical instances, so
+ * distinct structures below the top level can not occur.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoreBenchmark {
+
+    private final RawType typeA = new Type<Map<String, List<Set<Integer>>>>() {
+    };
+    private final RawType typeB = new Type<Map<String, List<Set<Integer>>>>() {
+    };
+    private final Core coreA = newCore(typeA);
+    private final Core coreB = newCore(typeB);
+    private final Legacy legacyA = newLegacy();
+    private final Legacy legacyB = newLegacy();
+
+    private static Core newCore(final RawType type) {
+        return new Core(type.getPrimeClass(), type.getActualParameters());
+    }
+
+    private static Legacy newLegacy() {
+        final Legacy string = new Legacy(String.class, emptyList());
+        final Legacy integer = new Legacy(Integer.class, emptyList());
+        final Legacy set = new Legacy(Set.class, singletonList(integer));
+        final Legacy list = new Legacy(List.class, singletonList(set));
+        return new Legacy(Map.class, asList(string, list));
+    }
+
+    @Benchmark
+    public final boolean equalsType() {
+        return typeA.equals(typeB);
+    }
+
+    @Benchmark
+    public final boolean equalsCore() {
+        return coreA.equals(coreB);
+    }
+
+    @Benchmark
+    public final boolean equalsLegacy() {
+        return legacyA.equals(legacyB);
+    }
+
+    @Benchmark
+    public final int hashCodeType() {
+        return typeA.hashCode();
+    }
+
+    @Benchmark
+    public final int hashCodeLegacy() {
+        return legacyA.hashCode();
+    }
+
+    /**
+     * The former representation of {@link Core}, kept as a baseline.
+     */
+    static final class Legacy extends AbstractList<Object> {
+
+        private static final List<Function<Legacy, Object>> PROPERTIES = unmodifiableList(new ArrayList<>(asList(
+                core -> core.primeClass,
+                core -> core.actualParameters
+        )));
+
+        private final Class<?> primeClass;
+        private final List<Legacy> actualParameters;
+
+        Legacy(final Class<?> primeClass, final List<Legacy> actualParameters) {
+            this.primeClass = primeClass;
+            this.actualParameters = unmodifiableList(new ArrayList<>(actualParameters));
+        }
+
+        @Override
+        public final Object get(final int index) {
+            return PROPERTIES.get(index).apply(this);
+        }
+
+        @Override
+        public final int size() {
+            return PROPERTIES.size();
+        }
+    }
+}
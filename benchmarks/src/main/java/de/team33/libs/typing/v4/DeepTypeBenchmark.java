@@ -0,0 +1,65 @@
+package de.team33.libs.typing.v4;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Measures {@code equals}, {@code hashCode} and {@code toString} of a deeply nested {@link Type}.</p>
+ * <p>Equal {@link Type}s share their canonical backing, so {@link #equalsCanonical()} measures the identity
+ * shortcut. {@link #equalsDistinct()} compares an equal but distinct {@link Core}, as the interning of a newly
+ * built type does, which is the worst case of a structural comparison that actually occurs.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeepTypeBenchmark {
+
+    private final RawType typeA = new Type<Map<String, List<Map<Integer, Set<List<String>>[]>>>>() {
+    };
+    private final RawType typeB = new Type<Map<String, List<Map<Integer, Set<List<String>>[]>>>>() {
+    };
+    private final RawType typeC = new Type<Map<String, List<Map<Integer, Set<List<Integer>>[]>>>>() {
+    };
+    private final Core coreA = new Core(typeA.getPrimeClass(), typeA.getActualParameters());
+    private final Core coreB = new Core(typeB.getPrimeClass(), typeB.getActualParameters());
+
+    @Benchmark
+    public final boolean equalsCanonical() {
+        return typeA.equals(typeB);
+    }
+
+    @Benchmark
+    public final boolean equalsDistinct() {
+        return coreA.equals(coreB);
+    }
+
+    @Benchmark
+    public final boolean equalsDifferent() {
+        return typeA.equals(typeC);
+    }
+
+    @Benchmark
+    public final int hashCodeDeep() {
+        return typeA.hashCode();
+    }
+
+    @Benchmark
+    public final String toStringDeep() {
+        return typeA.toString();
+    }
+}
@@ -0,0 +1,114 @@
+package de.team33.libs.typing.v4;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the navigation of a deep generic class hierarchy and the resolution of the types of its members.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HierarchyBenchmark {
+
+    private final RawType type = new Type<Level4<Integer>>() {
+    };
+    private final Field field = member(() -> Level0.class.getDeclaredField("field"));
+    private final Method getter = member(() -> Level0.class.getDeclaredMethod("get"));
+    private final Method setter = member(() -> Level0.class.getDeclaredMethod("set", Object.class, Map.class));
+
+    private static <M> M member(final Lookup<M> lookup) {
+        try {
+            return lookup.get();
+        } catch (final NoSuchFieldException | NoSuchMethodException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Benchmark
+    public final List<RawType> getSuperTypes() {
+        return type.getSuperTypes().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public final List<RawType> getSuperTypeList() {
+        return type.getSuperTypeList();
+    }
+
+    @Benchmark
+    public final List<RawType> getAllSuperTypes() {
+        return type.getAllSuperTypes();
+    }
+
+    @Benchmark
+    public final RawType typeOf() {
+        return type.typeOf(field);
+    }
+
+    @Benchmark
+    public final RawType returnTypeOf() {
+        return type.returnTypeOf(getter);
+    }
+
+    @Benchmark
+    public final List<RawType> parameterTypesOf() {
+        return type.parameterTypesOf(setter);
+    }
+
+    @FunctionalInterface
+    private interface Lookup<M> {
+        M get() throws NoSuchFieldException, NoSuchMethodException;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Level0<T> implements Supplier<T> {
+
+        private T field;
+
+        @Override
+        public T get() {
+            return field;
+        }
+
+        public void set(final T value, final Map<String, T> more) {
+            field = value;
+        }
+    }
+
+    private static class Level1<T, U> extends Level0<Map<T, List<U>>> implements Comparable<Level1<T, U>> {
+        @Override
+        public int compareTo(final Level1<T, U> o) {
+            return 0;
+        }
+    }
+
+    private static class Level2<T> extends Level1<String, T[]> {
+    }
+
+    private static class Level3<T> extends Level2<List<T>> implements Runnable {
+        @Override
+        public void run() {
+        }
+    }
+
+    private static class Level4<T> extends Level3<Map<T, T>> {
+    }
+}
@@ -0,0 +1,99 @@
+package de.team33.libs.typing.v4;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares {@link Lazy} with its former, synchronized implementation ({@link Synchronized}).
+ * <p>
+ * The {@code get*} benchmarks measure contended reads of an already initialized value, the {@code first*}
+ * benchmarks measure creation plus first access (run with {@code -prof gc} to compare the footprint).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazyBenchmark {
+
+    private Lazy<String> lazy;
+    private Synchronized<String> legacy;
+
+    @Setup
+    public final void setup() {
+        lazy = new Lazy<>(() -> "value");
+        lazy.get();
+        legacy = new Synchronized<>(() -> "value");
+        legacy.get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public final String getLazy() {
+        return lazy.get();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public final String getSynchronized() {
+        return legacy.get();
+    }
+
+    @Benchmark
+    public final String firstLazy() {
+        return new Lazy<>(() -> "value").get();
+    }
+
+    @Benchmark
+    public final String firstSynchronized() {
+        return new Synchronized<>(() -> "value").get();
+    }
+
+    /**
+     * The former implementation of {@link Lazy}, kept as a baseline.
+     */
+    static final class Synchronized<T> implements Supplier<T> {
+
+        private Supplier<T> backing;
+
+        Synchronized(final Supplier<T> initial) {
+            this.backing = new Initial(initial);
+        }
+
+        @Override
+        public final T get() {
+            return backing.get();
+        }
+
+        private final class Initial implements Supplier<T> {
+
+            private final Supplier<T> initial;
+
+            private Initial(final Supplier<T> initial) {
+                this.initial = initial;
+            }
+
+            @Override
+            public final synchronized T get() {
+                if (backing == this) {
+                    final T result = initial.get();
+                    backing = () -> result;
+                }
+                return backing.get();
+            }
+        }
+    }
+}
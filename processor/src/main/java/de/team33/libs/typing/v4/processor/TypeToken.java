@@ -0,0 +1,24 @@
+package de.team33.libs.typing.v4.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Marks a field of type {@code Type<T>} whose value shall be precompiled at build time.</p>
+ * <p>For each class declaring such fields, the {@link TypeTokenProcessor} generates a class in the same package,
+ * named after the declaring class with the suffix {@code Types}. It contains a constant of the same name for each
+ * annotated field, built without generic reflection, e.g.</p>
+ * <pre>
+ * public class Sample {
+ *
+ *     &#64;TypeToken
+ *     static final Type&lt;Map&lt;String, List&lt;String&gt;&gt;&gt; MAP_TYPE = SampleTypes.MAP_TYPE;
+ * }
+ * </pre>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface TypeToken {
+}
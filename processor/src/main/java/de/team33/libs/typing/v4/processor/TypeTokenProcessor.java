@@ -0,0 +1,178 @@
+package de.team33.libs.typing.v4.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Generates the constants for fields annotated with {@link TypeToken}.</p>
+ * <p>The constants are built using {@code Type.of(Class)}, {@code Type.parameterized(Class, RawType...)} and
+ * {@code Type.arrayOf(Type)}, so no derivative needs to be resolved at runtime. The only generic reflection left is
+ * {@code Class.getTypeParameters()}, which {@code Type.parameterized} uses to check the number of actual parameters
+ * before the result is shared. Types that can not be built that way (containing wildcards) fall back to a
+ * {@code Type} derivative, which is resolved by generic reflection.</p>
+ */
+@SupportedAnnotationTypes("de.team33.libs.typing.v4.processor.TypeToken")
+public class TypeTokenProcessor extends AbstractProcessor {
+
+    private static final String TYPE_CLASS = "de.team33.libs.typing.v4.Type";
+    private static final String SUFFIX = "Types";
+    private static final String NOT_A_TYPE = "@TypeToken requires a field of type %s<T>";
+    private static final String NOT_DEFINITE = "@TypeToken requires a definite type but was %s";
+    private static final String NOT_MATCHING = "%s does not match %d formal parameter(s)";
+    private static final String DERIVATIVE = "%s can not be built directly, using a derivative of %s instead";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final Map<TypeElement, List<VariableElement>> fields = new LinkedHashMap<>();
+        for (final Element element : roundEnv.getElementsAnnotatedWith(TypeToken.class)) {
+            if (ElementKind.FIELD == element.getKind()) {
+                fields.computeIfAbsent((TypeElement) element.getEnclosingElement(), key -> new ArrayList<>())
+                      .add((VariableElement) element);
+            }
+        }
+        fields.forEach(this::generate);
+        return true;
+    }
+
+    private void generate(final TypeElement owner, final List<VariableElement> fields) {
+        final Messager messager = processingEnv.getMessager();
+        final List<String> constants = new ArrayList<>(fields.size());
+        for (final VariableElement field : fields) {
+            try {
+                constants.add(constant(field));
+            } catch (final IllegalArgumentException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage(), field);
+            }
+        }
+        if (constants.size() < fields.size()) {
+            return;
+        }
+
+        final String packageName = processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString();
+        final String className = generatedName(owner);
+        final String qualifiedName = packageName.isEmpty() ? className : (packageName + "." + className);
+        try (final Writer out = processingEnv.getFiler().createSourceFile(qualifiedName, owner).openWriter();
+             final PrintWriter writer = new PrintWriter(out)) {
+            if (!packageName.isEmpty()) {
+                writer.printf("package %s;%n%n", packageName);
+            }
+            writer.printf("import %s;%n%n", TYPE_CLASS);
+            writer.printf("/**%n * Generated by %s for {@link %s}.%n */%n", getClass().getName(),
+                          owner.getQualifiedName());
+            writer.printf("final class %s {%n", className);
+            constants.forEach(constant -> writer.printf("%n    %s%n", constant));
+            writer.printf("%n    private %s() {%n    }%n}%n", className);
+        } catch (final IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Could not generate " + qualifiedName + ": " + e, owner);
+        }
+    }
+
+    private static String generatedName(final TypeElement owner) {
+        final StringBuilder result = new StringBuilder(owner.getSimpleName());
+        for (Element enclosing = owner.getEnclosingElement();
+             (null != enclosing) && (enclosing instanceof TypeElement);
+             enclosing = enclosing.getEnclosingElement()) {
+            result.insert(0, '_').insert(0, enclosing.getSimpleName());
+        }
+        return result.append(SUFFIX).toString();
+    }
+
+    private String constant(final VariableElement field) {
+        final Types types = processingEnv.getTypeUtils();
+        final TypeElement typeClass = processingEnv.getElementUtils().getTypeElement(TYPE_CLASS);
+        final TypeMirror fieldType = field.asType();
+        if ((null == typeClass) || (TypeKind.DECLARED != fieldType.getKind()) ||
+                !types.isSameType(types.erasure(fieldType), types.erasure(typeClass.asType())) ||
+                ((DeclaredType) fieldType).getTypeArguments().isEmpty()) {
+            throw new IllegalArgumentException(String.format(NOT_A_TYPE, TYPE_CLASS));
+        }
+        final TypeMirror type = ((DeclaredType) fieldType).getTypeArguments().get(0);
+        final String expression;
+        if (isBuildable(type)) {
+            expression = expression(type);
+        } else {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                                                     String.format(DERIVATIVE, type, TYPE_CLASS), field);
+            expression = String.format("new Type<%s>() {%n    }", type);
+        }
+        return String.format("static final Type<%s> %s =%n            %s;", type, field.getSimpleName(), expression);
+    }
+
+    private String expression(final TypeMirror type) {
+        final Types types = processingEnv.getTypeUtils();
+        if (isPlain(type)) {
+            return String.format("Type.of(%s.class)", types.erasure(type));
+        }
+        switch (type.getKind()) {
+        case ARRAY:
+            return String.format("Type.arrayOf(%s)", expression(((ArrayType) type).getComponentType()));
+        case DECLARED:
+            final DeclaredType declared = (DeclaredType) type;
+            final int formalCount = ((TypeElement) declared.asElement()).getTypeParameters().size();
+            if (formalCount != declared.getTypeArguments().size()) {
+                throw new IllegalArgumentException(String.format(NOT_MATCHING, type, formalCount));
+            }
+            return String.format("Type.parameterized(%s.class, %s)", types.erasure(type),
+                                 declared.getTypeArguments().stream()
+                                         .map(this::expression)
+                                         .collect(Collectors.joining(", ")));
+        default:
+            throw new IllegalArgumentException(String.format(NOT_DEFINITE, type));
+        }
+    }
+
+    /**
+     * Determines if a definite type can be built using the factory methods of {@code Type}, which is the case
+     * unless it contains a wildcard. Other kinds are left to {@link #expression(TypeMirror)}, which rejects them.
+     */
+    private static boolean isBuildable(final TypeMirror type) {
+        switch (type.getKind()) {
+        case WILDCARD:
+            return false;
+        case ARRAY:
+            return isBuildable(((ArrayType) type).getComponentType());
+        case DECLARED:
+            return ((DeclaredType) type).getTypeArguments().stream().allMatch(TypeTokenProcessor::isBuildable);
+        default:
+            return true;
+        }
+    }
+
+    private static boolean isPlain(final TypeMirror type) {
+        final TypeKind kind = type.getKind();
+        if (kind.isPrimitive()) {
+            return true;
+        } else if (TypeKind.ARRAY == kind) {
+            return isPlain(((ArrayType) type).getComponentType());
+        } else {
+            return (TypeKind.DECLARED == kind) && ((DeclaredType) type).getTypeArguments().isEmpty();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package de.team33.test.typing.v4.processor;
+
+import de.team33.libs.typing.v4.Type;
+import de.team33.libs.typing.v4.processor.TypeTokenProcessor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TypeTokenProcessorTest {
+
+    private static final String SAMPLE = "package sample;\n" +
+            "import de.team33.libs.typing.v4.Type;\n" +
+            "import de.team33.libs.typing.v4.processor.TypeToken;\n" +
+            "import java.util.*;\n" +
+            "public class Sample {\n" +
+            "    @TypeToken static final Type<String> STRING = SampleTypes.STRING;\n" +
+            "    @TypeToken static final Type<int[][]> INTS = SampleTypes.INTS;\n" +
+            "    @TypeToken static final Type<Map<String, List<String>>[]> MAPS = SampleTypes.MAPS;\n" +
+            "    @TypeToken static final Type<List<? extends Number>> NUMBERS = SampleTypes.NUMBERS;\n" +
+            "    public static class Nested {\n" +
+            "        @TypeToken static final Type<Map.Entry<String, List>> ENTRY = Sample_NestedTypes.ENTRY;\n" +
+            "    }\n" +
+            "}\n";
+    private static final String ILLEGAL = "package sample;\n" +
+            "import de.team33.libs.typing.v4.Type;\n" +
+            "import de.team33.libs.typing.v4.processor.TypeToken;\n" +
+            "import java.util.*;\n" +
+            "public class Illegal<T> {\n" +
+            "    @TypeToken final Type<List<T>> list = null;\n" +
+            "    @TypeToken final List<String> strings = null;\n" +
+            "}\n";
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    private boolean compile(final String className, final String source,
+                            final DiagnosticCollector<JavaFileObject> diagnostics) throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null);
+        final JavaFileObject unit = new SimpleJavaFileObject(
+                URI.create("string:///sample/" + className + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        final List<String> options = Arrays.asList("-d", temp.getRoot().getPath(),
+                                                   "-classpath", System.getProperty("java.class.path"));
+        final JavaCompiler.CompilationTask task =
+                compiler.getTask(null, files, diagnostics, options, null, singletonList(unit));
+        task.setProcessors(singletonList(new TypeTokenProcessor()));
+        return task.call();
+    }
+
+    @Test
+    public final void generate() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertTrue(diagnostics.getDiagnostics().toString(), compile("Sample", SAMPLE, diagnostics));
+
+        try (final URLClassLoader loader = new URLClassLoader(new URL[]{temp.getRoot().toURI().toURL()},
+                                                              getClass().getClassLoader())) {
+            final Class<?> sample = loader.loadClass("sample.Sample");
+            assertSame(Type.of(String.class), get(sample, "STRING"));
+            assertSame(Type.of(int[][].class), get(sample, "INTS"));
+            assertEquals(new Type<Map<String, List<String>>[]>() {
+            }, get(sample, "MAPS"));
+            assertEquals(new Type<List<? extends Number>>() {
+            }, get(sample, "NUMBERS"));
+            assertEquals(new Type<Map.Entry<String, List>>() {
+            }, get(loader.loadClass("sample.Sample$Nested"), "ENTRY"));
+        }
+
+        final String generated = new String(Files.readAllBytes(temp.getRoot().toPath()
+                                                                   .resolve("sample/SampleTypes.java")),
+                                            StandardCharsets.UTF_8);
+        assertTrue(generated, generated.contains("Type.parameterized(java.util.Map.class"));
+        assertTrue(generated, generated.contains("new Type<java.util.List<? extends java.lang.Number>>()"));
+        assertFalse(generated, generated.contains("new Type<java.util.Map"));
+    }
+
+    @Test
+    public final void illegal() throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertFalse(compile("Illegal", ILLEGAL, diagnostics));
+        final String messages = diagnostics.getDiagnostics().toString();
+        assertTrue(messages, messages.contains("@TypeToken requires a definite type"));
+        assertTrue(messages, messages.contains("@TypeToken requires a field of type"));
+        assertFalse(new File(temp.getRoot(), "sample/IllegalTypes.java").exists());
+    }
+
+    private static Object get(final Class<?> owner, final String name) throws ReflectiveOperationException {
+        final java.lang.reflect.Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+}
@@ -3,14 +3,13 @@ package de.team33.libs.typing.v4;
 import java.util.Collections;
 import java.util.List;
 
+@SuppressWarnings("serial") // see RawType.writeReplace()
 abstract class ArrayType extends BasicType {
 
     private static final List<String> FORMAL_PARAMETERS = Collections.singletonList("E");
 
-    private final transient Lazy<String> stringView = new Lazy<>(() -> getActualParameters().get(0) + "[]");
-
-    ArrayType(final Class<?> primeClass, final List<RawType> actualParameters) {
-        super(primeClass, actualParameters);
+    ArrayType(final Core core) {
+        super(core);
     }
 
     @Override
@@ -19,7 +18,19 @@ abstract class ArrayType extends BasicType {
     }
 
     @Override
-    public final String toString() {
-        return stringView.get();
+    final BasicType substitute(final Context context) {
+        final RawType actualParameter = getActualParameters().get(0);
+        final BasicType substitute = actualParameter.getBacking().substitute(context);
+        return (substitute == actualParameter) ? this : GenericArrayType.of(substitute);
+    }
+
+    @Override
+    final void renderTo(final StringBuilder target, final Notation notation) {
+        final String component = getActualParameters().get(0).getBacking().render(notation);
+        if (Notation.SIGNATURE == notation) {
+            target.append('[').append(component);
+        } else {
+            target.append(component).append("[]");
+        }
     }
 }
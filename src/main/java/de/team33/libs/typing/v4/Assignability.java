@@ -0,0 +1,113 @@
+package de.team33.libs.typing.v4;
+
+import java.util.List;
+
+/**
+ * Determines if values of a source type are assignable to a target type, respecting actual parameters.
+ */
+final class Assignability {
+
+    private Assignability() {
+    }
+
+    static boolean test(final BasicType target, final BasicType source) {
+        if (target == source) {
+            return true;
+        } else if ((target instanceof WildcardType) || (target instanceof VariableType)) {
+            return isTargetBoundFrom(target, source);
+        } else if ((source instanceof WildcardType) || (source instanceof VariableType)) {
+            return isAnyAssignableFrom(target, source.getUpperBounds());
+        } else if (target.getPrimeClass().isPrimitive() || source.getPrimeClass().isPrimitive()) {
+            return target.getPrimeClass() == source.getPrimeClass();
+        } else if (!target.getPrimeClass().isAssignableFrom(source.getPrimeClass())) {
+            return false;
+        } else if (target.getPrimeClass().isArray()) {
+            return target.getActualParameters().get(0).getBacking().assignableFrom(
+                    source.getActualParameters().get(0).getBacking());
+        } else {
+            return isParameterized(target, source);
+        }
+    }
+
+    private static boolean isTargetBoundFrom(final BasicType target, final BasicType source) {
+        if (target instanceof VariableType) {
+            // only the variable itself or (transitively) one that is bounded by it ...
+            return (source instanceof VariableType) && isAnyAssignableFrom(target, source.getUpperBounds());
+        }
+        final List<RawType> lowerBounds = target.getLowerBounds();
+        return lowerBounds.isEmpty()
+                ? isAllAssignableFrom(target.getUpperBounds(), source)
+                : isAllAssignableFrom(lowerBounds, source);
+    }
+
+    private static boolean isParameterized(final BasicType target, final BasicType source) {
+        final List<RawType> targetParameters = target.getActualParameters();
+        if (targetParameters.isEmpty()) {
+            return true;
+        }
+        if (isRaw(source)) {
+            return true; // unchecked conversion of a raw type
+        }
+        final BasicType view = source.getSuperTypeView(target.getPrimeClass());
+        if ((null == view) || view.getActualParameters().isEmpty()) {
+            return true; // unchecked conversion of a raw super type
+        }
+        final List<RawType> viewParameters = view.getActualParameters();
+        for (int index = 0; index < targetParameters.size(); ++index) {
+            if (!contains(targetParameters.get(index).getBacking(), viewParameters.get(index).getBacking())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isRaw(final BasicType type) {
+        // the super type views of a raw type are based on its own (unbound) formal parameters ...
+        return type.getActualParameters().isEmpty() && !type.getFormalParameters().isEmpty();
+    }
+
+    private static boolean contains(final BasicType target, final BasicType source) {
+        if (target == source) {
+            return true;
+        } else if (target instanceof WildcardType) {
+            final List<RawType> lowerBounds = target.getLowerBounds();
+            if (lowerBounds.isEmpty()) {
+                return isAllAssignableFrom(target.getUpperBounds(), source);
+            } else if (source instanceof WildcardType) {
+                return !source.getLowerBounds().isEmpty()
+                        && isAllAssignableFrom(source.getLowerBounds().get(0).getBacking(), lowerBounds);
+            } else {
+                return isAllAssignableFrom(source, lowerBounds);
+            }
+        } else {
+            return false;
+        }
+    }
+
+    private static boolean isAnyAssignableFrom(final BasicType target, final List<RawType> sources) {
+        for (final RawType source : sources) {
+            if (target.assignableFrom(source.getBacking())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAllAssignableFrom(final List<RawType> targets, final BasicType source) {
+        for (final RawType target : targets) {
+            if (!target.getBacking().assignableFrom(source)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAllAssignableFrom(final BasicType target, final List<RawType> sources) {
+        for (final RawType source : sources) {
+            if (!target.assignableFrom(source.getBacking())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,13 +1,59 @@
 package de.team33.libs.typing.v4;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+@SuppressWarnings("serial") // see RawType.writeReplace()
 abstract class BasicType extends RawType {
 
-    private final Core core;
+    private static final int NOTATIONS = Notation.values().length;
+
+    private final transient Core core;
+    private final transient int id = Interner.newId();
+
+    // Most canonical instances never need the following, so each of them is allocated on first use.
+    // Those that must be unique are initialized double-checked, synchronized by this instance ...
+    private transient volatile ConcurrentMap<java.lang.reflect.Type, RawType> resolved;
+    private transient volatile ConcurrentMap<Integer, Assignable> assignables;
+    private transient volatile DirectSuperTypes directSuperTypes;
+    private transient volatile Hierarchy hierarchy;
+    private transient volatile Members members;
+    private transient volatile Type<?> type;
+    // ... the renderings are values, so a race just may render one twice:
+    private transient volatile String[] renderings;
+
+    BasicType(final Core core) {
+        this.core = core;
+    }
+
+    /**
+     * Returns a dense numeric id that is unique for this (canonical) type as long as it is in use.
+     *
+     * @see Interner#newId()
+     */
+    final int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the canonical {@link Type} wrapping this (canonical) type.
+     */
+    final Type<?> getType() {
+        final Type<?> result = type;
+        return (null == result) ? newType() : result;
+    }
 
-    BasicType(final Class<?> primeClass, final List<RawType> actualParameters) {
-        this.core = new Core(primeClass, actualParameters);
+    private synchronized Type<?> newType() {
+        if (null == type) {
+            type = Type.wrap(this);
+        }
+        return type;
     }
 
     @Override
@@ -20,8 +66,201 @@ abstract class BasicType extends RawType {
         return core.actualParameters;
     }
 
+    @Override
+    public List<RawType> getUpperBounds() {
+        return emptyList();
+    }
+
+    @Override
+    public List<RawType> getLowerBounds() {
+        return emptyList();
+    }
+
+    /**
+     * Determines if this type is free of unbound {@linkplain VariableType type variables}.
+     */
+    boolean isResolved() {
+        return isResolved(getActualParameters()) && isResolved(getUpperBounds()) && isResolved(getLowerBounds());
+    }
+
+    private static boolean isResolved(final List<RawType> types) {
+        for (final RawType type : types) {
+            if (!type.getBacking().isResolved()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a type where the unbound {@linkplain VariableType type variables} are substituted by the actual types
+     * given by a {@link Context}, as far as they are bound there.
+     */
+    abstract BasicType substitute(final Context context);
+
+    static List<RawType> substitute(final List<RawType> types, final Context context) {
+        final List<RawType> result = new ArrayList<>(types.size());
+        boolean changed = false;
+        for (final RawType type : types) {
+            final BasicType substitute = type.getBacking().substitute(context);
+            changed |= (substitute != type);
+            result.add(substitute);
+        }
+        return changed ? unmodifiableList(result) : types;
+    }
+
     @Override
     final Core getCore() {
         return core;
     }
+
+    @Override
+    final BasicType getBacking() {
+        return this;
+    }
+
+    /**
+     * Returns the rendering of this type in a given notation, memorizing the result.
+     */
+    final String render(final Notation notation) {
+        final String[] present = renderings;
+        final String result = (null == present) ? null : present[notation.ordinal()];
+        return (null == result) ? renderNew(present, notation) : result;
+    }
+
+    private String renderNew(final String[] present, final Notation notation) {
+        final StringBuilder builder = new StringBuilder(32);
+        renderTo(builder, notation);
+        final String result = builder.toString();
+        ((null == present) ? renderings() : present)[notation.ordinal()] = result;
+        return result;
+    }
+
+    private synchronized String[] renderings() {
+        if (null == renderings) {
+            renderings = new String[NOTATIONS];
+        }
+        return renderings;
+    }
+
+    /**
+     * Appends the rendering of this type in a given notation to a given target. Implementations should use the
+     * (memorized) {@link #render(Notation) renderings} of nested types.
+     */
+    abstract void renderTo(final StringBuilder target, final Notation notation);
+
+    /**
+     * Maps a given {@link java.lang.reflect.Type} in the context of this type, memorizing the result.
+     */
+    final RawType resolve(final java.lang.reflect.Type type) {
+        final ConcurrentMap<java.lang.reflect.Type, RawType> present = resolved;
+        final RawType result = (null == present) ? null : present.get(type);
+        accessed(Instrumentation.Cache.RESOLVED, null != result);
+        return (null == result) ? resolveNew(present, type) : result;
+    }
+
+    final Members cachedMembers() {
+        final Members result = members;
+        return (null == result) ? newMembers() : result;
+    }
+
+    private synchronized Members newMembers() {
+        if (null == members) {
+            members = new Members(toString(), getHierarchy().getViews());
+        }
+        return members;
+    }
+
+    /**
+     * Determines if values of a given source type are assignable to this type, memorizing the result.
+     */
+    final boolean assignableFrom(final BasicType source) {
+        final ConcurrentMap<Integer, Assignable> memo = assignables;
+        final Assignable present = (null == memo) ? null : memo.get(source.getId());
+        final boolean hit = (null != present) && (present.get() == source);
+        accessed(Instrumentation.Cache.ASSIGNABLE, hit);
+        return hit ? present.result : assignableFromNew(memo, source);
+    }
+
+    private static void accessed(final Instrumentation.Cache cache, final boolean hit) {
+        final Instrumentation instrumentation = Instruments.current;
+        if (null != instrumentation) {
+            instrumentation.cacheAccessed(cache, hit);
+        }
+    }
+
+    private boolean assignableFromNew(final ConcurrentMap<Integer, Assignable> memo, final BasicType source) {
+        final boolean result = Assignability.test(this, source);
+        // An entry for a reused id (of a collected source) is simply replaced, so the size of the memo is limited
+        // by the number of ids in use ...
+        ((null == memo) ? assignables() : memo).put(source.getId(), new Assignable(source, result));
+        return result;
+    }
+
+    private synchronized ConcurrentMap<Integer, Assignable> assignables() {
+        if (null == assignables) {
+            assignables = new ConcurrentHashMap<>(0);
+        }
+        return assignables;
+    }
+
+    /**
+     * Returns the view of this type as one of its (transitive) super types, based on a given class, or
+     * {@code null} if the given class is not part of the hierarchy of this type.
+     */
+    final BasicType getSuperTypeView(final Class<?> superClass) {
+        return getHierarchy().getView(superClass);
+    }
+
+    final DirectSuperTypes getDirectSuperTypes() {
+        final DirectSuperTypes result = directSuperTypes;
+        return (null == result) ? newDirectSuperTypes() : result;
+    }
+
+    private synchronized DirectSuperTypes newDirectSuperTypes() {
+        if (null == directSuperTypes) {
+            directSuperTypes = new DirectSuperTypes(this);
+        }
+        return directSuperTypes;
+    }
+
+    final Hierarchy getHierarchy() {
+        final Hierarchy result = hierarchy;
+        return (null == result) ? newHierarchy() : result;
+    }
+
+    private synchronized Hierarchy newHierarchy() {
+        if (null == hierarchy) {
+            hierarchy = new Hierarchy(this);
+        }
+        return hierarchy;
+    }
+
+    private RawType resolveNew(final ConcurrentMap<java.lang.reflect.Type, RawType> memo,
+                               final java.lang.reflect.Type type) {
+        final RawType result = RawTypes.map(type, this::nullableActualParameter);
+        final RawType present = ((null == memo) ? resolved() : memo).putIfAbsent(type, result);
+        return (null == present) ? result : present;
+    }
+
+    private synchronized ConcurrentMap<java.lang.reflect.Type, RawType> resolved() {
+        if (null == resolved) {
+            resolved = new ConcurrentHashMap<>(0);
+        }
+        return resolved;
+    }
+
+    /**
+     * A memorized result of {@link #assignableFrom(BasicType)}, keyed by the {@linkplain #getId() id} of the
+     * source type. The source is only referenced weakly, so it does not get pinned by (long-living) target types.
+     */
+    private static final class Assignable extends WeakReference<BasicType> {
+
+        private final boolean result;
+
+        private Assignable(final BasicType source, final boolean result) {
+            super(source);
+            this.result = result;
+        }
+    }
 }
@@ -0,0 +1,231 @@
+package de.team33.libs.typing.v4;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * <p>A thread-safe variant of {@link RawTypeMap}.</p>
+ * <p>Read access is lock-free and consists of a volatile read plus a (typically single) table lookup. Each
+ * modification copies the backing table ("copy on write"), which costs time proportional to the number of entries,
+ * so this implementation is intended for registries that are rarely modified but frequently read.</p>
+ * <p>Iterators reflect the state at the time of their creation and do not support {@link Iterator#remove()}.
+ * Like other {@link ConcurrentMap}s, this map does not accept {@code null} values.</p>
+ */
+public class ConcurrentRawTypeMap<V> extends AbstractMap<RawType, V> implements ConcurrentMap<RawType, V> {
+
+    private volatile Table table = new Table(new BasicType[0], new Object[0], 0);
+
+    /**
+     * Initializes a new, empty instance.
+     */
+    public ConcurrentRawTypeMap() {
+    }
+
+    /**
+     * Initializes a new instance containing the mappings of a given {@link Map}.
+     */
+    public ConcurrentRawTypeMap(final Map<? extends RawType, ? extends V> origin) {
+        putAll(origin);
+    }
+
+    @Override
+    public final int size() {
+        return table.size;
+    }
+
+    @Override
+    public final boolean containsKey(final Object key) {
+        return 0 <= RawTypeMap.indexOf(table.keys, key);
+    }
+
+    @Override
+    public final V get(final Object key) {
+        return table.get(key);
+    }
+
+    @Override
+    public final synchronized V put(final RawType key, final V value) {
+        final V result = table.get(key);
+        table = table.with(key.getBacking(), Objects.requireNonNull(value));
+        return result;
+    }
+
+    @Override
+    public final synchronized void putAll(final Map<? extends RawType, ? extends V> map) {
+        Table result = table;
+        for (final Entry<? extends RawType, ? extends V> entry : map.entrySet()) {
+            result = result.with(entry.getKey().getBacking(), Objects.requireNonNull(entry.getValue()));
+        }
+        table = result;
+    }
+
+    @Override
+    public final synchronized V putIfAbsent(final RawType key, final V value) {
+        final V result = table.get(key);
+        if (null == result) {
+            table = table.with(key.getBacking(), Objects.requireNonNull(value));
+        }
+        return result;
+    }
+
+    @Override
+    public final V computeIfAbsent(final RawType key, final Function<? super RawType, ? extends V> mapping) {
+        final V result = table.get(key);
+        return (null == result) ? computeIfAbsentSynchronized(key, mapping) : result;
+    }
+
+    private synchronized V computeIfAbsentSynchronized(final RawType key,
+                                                       final Function<? super RawType, ? extends V> mapping) {
+        final V present = table.get(key);
+        if (null != present) {
+            return present;
+        }
+        final V result = mapping.apply(key);
+        if (null != result) {
+            table = table.with(key.getBacking(), result);
+        }
+        return result;
+    }
+
+    @Override
+    public final synchronized V remove(final Object key) {
+        final V result = table.get(key);
+        table = table.without(key);
+        return result;
+    }
+
+    @Override
+    public final synchronized boolean remove(final Object key, final Object value) {
+        if (containsKey(key) && Objects.equals(table.get(key), value)) {
+            table = table.without(key);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public final synchronized boolean replace(final RawType key, final V oldValue, final V newValue) {
+        if (containsKey(key) && Objects.equals(table.get(key), oldValue)) {
+            table = table.with(key.getBacking(), Objects.requireNonNull(newValue));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public final synchronized V replace(final RawType key, final V value) {
+        final V result = table.get(key);
+        if (containsKey(key)) {
+            table = table.with(key.getBacking(), Objects.requireNonNull(value));
+        }
+        return result;
+    }
+
+    @Override
+    public final synchronized void clear() {
+        table = new Table(new BasicType[0], new Object[0], 0);
+    }
+
+    @Override
+    public final Set<Entry<RawType, V>> entrySet() {
+        return new AbstractSet<Entry<RawType, V>>() {
+            @Override
+            public Iterator<Entry<RawType, V>> iterator() {
+                return table.iterator();
+            }
+
+            @Override
+            public int size() {
+                return table.size;
+            }
+        };
+    }
+
+    private final class Table {
+
+        private final BasicType[] keys;
+        private final Object[] values;
+        private final int size;
+
+        private Table(final BasicType[] keys, final Object[] values, final int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        private V get(final Object key) {
+            final int index = RawTypeMap.indexOf(keys, key);
+            return (0 > index) ? null : (V) values[index];
+        }
+
+        private Table with(final BasicType key, final V value) {
+            final boolean present = 0 <= RawTypeMap.indexOf(keys, key);
+            final int newSize = present ? size : (size + 1);
+            final int capacity = RawTypeMap.capacityFor(newSize);
+            final BasicType[] newKeys;
+            final Object[] newValues;
+            if (capacity > keys.length) {
+                newKeys = new BasicType[capacity];
+                newValues = new Object[capacity];
+                RawTypeMap.rehash(keys, values, newKeys, newValues);
+            } else {
+                newKeys = keys.clone();
+                newValues = values.clone();
+            }
+            final int index = RawTypeMap.slotOf(newKeys, key);
+            newKeys[index] = key;
+            newValues[index] = value;
+            return new Table(newKeys, newValues, newSize);
+        }
+
+        private Table without(final Object key) {
+            final int index = RawTypeMap.indexOf(keys, key);
+            if (0 > index) {
+                return this;
+            }
+            final BasicType[] newKeys = keys.clone();
+            final Object[] newValues = values.clone();
+            RawTypeMap.delete(newKeys, newValues, index);
+            return new Table(newKeys, newValues, size - 1);
+        }
+
+        private Iterator<Entry<RawType, V>> iterator() {
+            return new Iterator<Entry<RawType, V>>() {
+
+                private int next = seek(0);
+
+                private int seek(final int start) {
+                    int index = start;
+                    while ((index < keys.length) && (null == keys[index])) {
+                        index += 1;
+                    }
+                    return index;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return next < keys.length;
+                }
+
+                @SuppressWarnings("unchecked")
+                @Override
+                public Entry<RawType, V> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final int index = next;
+                    next = seek(next + 1);
+                    return new SimpleImmutableEntry<>(keys[index], (V) values[index]);
+                }
+            };
+        }
+    }
+}
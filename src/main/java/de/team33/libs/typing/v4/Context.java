@@ -3,9 +3,10 @@ package de.team33.libs.typing.v4;
 @FunctionalInterface
 interface Context {
 
-    Context NULL = formal -> {
-        throw new IllegalArgumentException(String.format("formal parameter <%s> not present", formal));
-    };
+    Context NULL = formal -> null;
 
+    /**
+     * Returns the actual type of a formal parameter or {@code null} if the formal parameter is not bound.
+     */
     RawType getActual(String formal);
 }
@@ -1,35 +1,80 @@
 package de.team33.libs.typing.v4;
 
-import java.util.AbstractList;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.function.Function;
+import java.util.Objects;
 
-import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
 
-class Core extends AbstractList<Object> {
+final class Core {
 
-    private static final List<Function<Core, Object>> PROPERTIES = unmodifiableList(new ArrayList<>(asList(
-            core -> core.primeClass,
-            core -> core.actualParameters
-    )));
+    private static final RawType[] NO_PARAMETERS = {};
 
     final Class<?> primeClass;
     final List<RawType> actualParameters;
+    final Object qualifier;
+    private final RawType[] parameters;
+    private final int hash;
 
     Core(final Class<?> primeClass, final List<RawType> actualParameters) {
+        this(primeClass, actualParameters, null);
+    }
+
+    /**
+     * @param qualifier distinguishes types that are not fully defined by their prime class and actual parameters
+     *                  (e.g. wildcards). Must be an immutable value or {@code null}.
+     */
+    Core(final Class<?> primeClass, final List<RawType> actualParameters, final Object qualifier) {
         this.primeClass = primeClass;
-        this.actualParameters = unmodifiableList(new ArrayList<>(actualParameters));
+        this.parameters = actualParameters.isEmpty() ? NO_PARAMETERS : actualParameters.toArray(NO_PARAMETERS);
+        this.actualParameters = newList(parameters);
+        this.qualifier = qualifier;
+        this.hash = (31 * ((31 * primeClass.hashCode()) + Arrays.hashCode(parameters))) + Objects.hashCode(qualifier);
+    }
+
+    private static List<RawType> newList(final RawType[] parameters) {
+        switch (parameters.length) {
+        case 0:
+            return emptyList();
+        case 1:
+            return singletonList(parameters[0]);
+        default:
+            return unmodifiableList(Arrays.asList(parameters));
+        }
     }
 
     @Override
-    public final Object get(final int index) {
-        return PROPERTIES.get(index).apply(this);
+    public final int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        return (this == obj) || ((obj instanceof Core) && isEqual((Core) obj));
+    }
+
+    private boolean isEqual(final Core other) {
+        if ((hash != other.hash) || (primeClass != other.primeClass)) {
+            return false;
+        }
+        final RawType[] otherParameters = other.parameters;
+        final int length = parameters.length;
+        if (length != otherParameters.length) {
+            return false;
+        }
+        for (int index = 0; index < length; ++index) {
+            final RawType parameter = parameters[index];
+            if ((parameter != otherParameters[index]) && !parameter.equals(otherParameters[index])) {
+                return false;
+            }
+        }
+        return Objects.equals(qualifier, other.qualifier);
     }
 
     @Override
-    public final int size() {
-        return PROPERTIES.size();
+    public final String toString() {
+        return primeClass.getName() + Arrays.toString(parameters) + ((null == qualifier) ? "" : qualifier);
     }
 }
@@ -0,0 +1,52 @@
+package de.team33.libs.typing.v4;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The direct super types (superclass, interfaces) of a {@link BasicType}, computed once.
+ */
+final class DirectSuperTypes {
+
+    private final Optional<RawType> superType;
+    private final List<RawType> interfaceTypes;
+    private final List<RawType> superTypes;
+
+    DirectSuperTypes(final BasicType type) {
+        final Class<?> primeClass = type.getPrimeClass();
+        final Type superclass = primeClass.getGenericSuperclass();
+        final Type[] interfaces = primeClass.getGenericInterfaces();
+        final List<RawType> interfaceTypes = new ArrayList<>(interfaces.length);
+        for (final Type generic : interfaces) {
+            interfaceTypes.add(RawTypes.map(generic, type::nullableActualParameter));
+        }
+        this.interfaceTypes = unmodifiableList(interfaceTypes);
+        if (null == superclass) {
+            this.superType = Optional.empty();
+            this.superTypes = this.interfaceTypes;
+        } else {
+            final RawType superType = RawTypes.map(superclass, type::nullableActualParameter);
+            final List<RawType> superTypes = new ArrayList<>(interfaces.length + 1);
+            superTypes.add(superType);
+            superTypes.addAll(interfaceTypes);
+            this.superType = Optional.of(superType);
+            this.superTypes = unmodifiableList(superTypes);
+        }
+    }
+
+    final Optional<RawType> getSuperType() {
+        return superType;
+    }
+
+    final List<RawType> getInterfaceTypes() {
+        return interfaceTypes;
+    }
+
+    final List<RawType> getSuperTypes() {
+        return superTypes;
+    }
+}
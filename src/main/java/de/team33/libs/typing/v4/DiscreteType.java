@@ -2,43 +2,77 @@ package de.team33.libs.typing.v4;
 
 import java.lang.reflect.TypeVariable;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Collections.unmodifiableList;
-import static java.util.stream.Collectors.joining;
 
+@SuppressWarnings("serial") // see RawType.writeReplace()
 abstract class DiscreteType extends BasicType {
 
-    private final transient Lazy<String> stringView =
-            new Lazy<>(() -> getPrimeClass().getSimpleName() + newActualParametersView());
+    // A value, so a race just may determine the same twice ...
+    private transient volatile List<String> formalParameters;
 
-    private final transient Lazy<List<String>> formalParameters =
-            new Lazy<>(() -> unmodifiableList(Stream.of(getPrimeClass().getTypeParameters())
-                                                    .map(TypeVariable::getName)
-                                                    .collect(Collectors.toList())));
+    DiscreteType(final Core core) {
+        super(core);
+    }
 
-    DiscreteType(final Class<?> primeClass, final List<RawType> actualParameters) {
-        super(primeClass, actualParameters);
+    private static String canonicalName(final Class<?> type) {
+        final String result = type.getCanonicalName();
+        return (null == result) ? type.getName() : result;
     }
 
-    private String newActualParametersView() {
-        return Optional.of(getActualParameters())
-                       .filter(list -> 0 < list.size())
-                       .map(list -> list.stream()
-                                        .map(RawType::toString)
-                                        .collect(joining(", ", "<", ">")))
-                       .orElse("");
+    private void renderParameters(final StringBuilder target, final Notation notation, final String separator) {
+        final List<RawType> parameters = getActualParameters();
+        if (!parameters.isEmpty()) {
+            target.append('<');
+            for (int index = 0; index < parameters.size(); ++index) {
+                if (0 < index) {
+                    target.append(separator);
+                }
+                target.append(parameters.get(index).getBacking().render(notation));
+            }
+            target.append('>');
+        }
     }
 
     @Override
-    public final List<String> getFormalParameters() {
-        return formalParameters.get();
+    final void renderTo(final StringBuilder target, final Notation notation) {
+        final Class<?> primeClass = getPrimeClass();
+        switch (notation) {
+        case SIMPLE:
+            target.append(primeClass.getSimpleName());
+            renderParameters(target, notation, ", ");
+            break;
+        case CANONICAL:
+            target.append(canonicalName(primeClass));
+            renderParameters(target, notation, ", ");
+            break;
+        case SIGNATURE:
+            if (primeClass.isPrimitive()) {
+                target.append(Signatures.descriptorOf(primeClass));
+            } else {
+                target.append('L').append(primeClass.getName().replace('.', '/'));
+                renderParameters(target, notation, "");
+                target.append(';');
+            }
+            break;
+        default:
+            throw new IllegalArgumentException("unknown notation: " + notation);
+        }
     }
 
     @Override
-    public final String toString() {
-        return stringView.get();
+    public final List<String> getFormalParameters() {
+        final List<String> result = formalParameters;
+        return (null == result) ? newFormalParameters() : result;
+    }
+
+    private List<String> newFormalParameters() {
+        final List<String> result = unmodifiableList(Stream.of(getPrimeClass().getTypeParameters())
+                                                           .map(TypeVariable::getName)
+                                                           .collect(Collectors.toList()));
+        formalParameters = result;
+        return result;
     }
 }
@@ -0,0 +1,41 @@
+package de.team33.libs.typing.v4;
+
+import java.lang.reflect.Member;
+
+/**
+ * <p>Records expensive operations as events of the JDK Flight Recorder.</p>
+ * <p>This is the variant for Java 8, which does nothing at all. Starting with Java 11, a variant based on
+ * {@code jdk.jfr} is used instead (see {@code META-INF/versions/11} of the multi-release jar).</p>
+ * <p>Use ...</p>
+ * <pre>
+ * final Object event = Events.beginXyz();
+ * ...
+ * Events.commit(event, type, member);
+ * </pre>
+ */
+final class Events {
+
+    private Events() {
+    }
+
+    static Object beginTypeConstruction() {
+        return null;
+    }
+
+    static Object beginMemberResolution() {
+        return null;
+    }
+
+    static Object beginSuperTypes() {
+        return null;
+    }
+
+    /**
+     * @param event  An event as returned by one of the {@code begin...()} methods, may be {@code null} if the
+     *               event is not enabled.
+     * @param type   The type the operation was applied to.
+     * @param member The member the operation was applied to, may be {@code null}.
+     */
+    static void commit(final Object event, final RawType type, final Member member) {
+    }
+}
@@ -4,18 +4,38 @@ import java.lang.reflect.Array;
 
 import static java.util.Collections.singletonList;
 
+@SuppressWarnings("serial") // see RawType.writeReplace()
 class GenericArrayType extends ArrayType {
 
-    GenericArrayType(final java.lang.reflect.GenericArrayType type, final Context context) {
-        this(getActualParameter(type, context));
+    private static final String ILLEGAL_COMPONENT = "%s can not be the component type of an array";
+
+    private GenericArrayType(final Core core) {
+        super(core);
+    }
+
+    static BasicType of(final java.lang.reflect.GenericArrayType type, final Context context) {
+        return of(RawTypes.map(type.getGenericComponentType(), context));
     }
 
-    private GenericArrayType(final RawType actualParameter) {
-        super(getPrimeClass(actualParameter), singletonList(actualParameter));
+    static BasicType of(final RawType actualParameter) {
+        final Core core = new Core(getPrimeClass(actualParameter), singletonList(actualParameter));
+        return Interner.intern(core, GenericArrayType::new);
     }
 
-    private static RawType getActualParameter(final java.lang.reflect.GenericArrayType type, final Context context) {
-        return RawTypes.map(type.getGenericComponentType(), context);
+    /**
+     * Like {@link #of(RawType)} but checks if the given component type is legal and returns the plain array type
+     * if the component type is a plain class or array type.
+     *
+     * @throws IllegalArgumentException if the component type is illegal.
+     */
+    static BasicType checked(final RawType componentType) {
+        final BasicType backing = componentType.getBacking();
+        if ((void.class == backing.getPrimeClass()) || backing.isWildcard()) {
+            throw new IllegalArgumentException(String.format(ILLEGAL_COMPONENT, componentType));
+        }
+        return ((backing instanceof PlainClassType) || (backing instanceof PlainArrayType))
+                ? RawTypes.map(getPrimeClass(backing)).getBacking()
+                : of(backing);
     }
 
     private static Class<?> getPrimeClass(final RawType actualParameter) {
@@ -0,0 +1,69 @@
+package de.team33.libs.typing.v4;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The transitive closure of the super types of a {@link BasicType}, computed once.
+ */
+final class Hierarchy {
+
+    private final Map<Class<?>, BasicType> views = new LinkedHashMap<>();
+    private final List<RawType> superTypes;
+    private final BitSet superTypeIds = new BitSet();
+
+    Hierarchy(final BasicType type) {
+        final Object event = Events.beginSuperTypes();
+        final int depth = add(type, 0);
+        final List<RawType> superTypes = new ArrayList<>(views.size() - 1);
+        for (final BasicType view : views.values()) {
+            if (view != type) {
+                superTypes.add(view);
+                superTypeIds.set(view.getId());
+            }
+        }
+        this.superTypes = unmodifiableList(superTypes);
+        Events.commit(event, type, null);
+
+        final Instrumentation instrumentation = Instruments.current;
+        if (null != instrumentation) {
+            instrumentation.hierarchyWalked(type, views.size(), depth);
+        }
+    }
+
+    /**
+     * Adds a type and its super types, returning the maximum depth reached.
+     */
+    private int add(final BasicType type, final int depth) {
+        return (null == views.putIfAbsent(type.getPrimeClass(), type))
+                ? type.getSuperTypeList().stream()
+                      .mapToInt(superType -> add(superType.getBacking(), depth + 1))
+                      .reduce(depth, Math::max)
+                : depth;
+    }
+
+    /**
+     * Returns all the views of the underlying type, including itself, in depth-first order, one per class.
+     */
+    final Collection<BasicType> getViews() {
+        return views.values();
+    }
+
+    final BasicType getView(final Class<?> superClass) {
+        return views.get(superClass);
+    }
+
+    final List<RawType> getSuperTypes() {
+        return superTypes;
+    }
+
+    final boolean hasSuperType(final BasicType superType) {
+        return superTypeIds.get(superType.getId());
+    }
+}
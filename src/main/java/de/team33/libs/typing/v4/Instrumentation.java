@@ -0,0 +1,98 @@
+package de.team33.libs.typing.v4;
+
+import java.lang.reflect.Member;
+import java.util.Objects;
+
+/**
+ * <p>An opt-in service provider interface to observe the internal operations of this library, e.g. to collect
+ * {@link Statistics}.</p>
+ * <p>At most one instrumentation is {@linkplain #install(Instrumentation) installed} at a time. As long as
+ * none is installed, the library does not spend any effort on instrumentation beyond a single field read per
+ * observed operation.</p>
+ * <p>Implementations must be thread safe and should return quickly.</p>
+ */
+public interface Instrumentation {
+
+    /**
+     * Installs a given instrumentation, replacing a previously installed one, if any.
+     */
+    static void install(final Instrumentation instrumentation) {
+        Instruments.current = Objects.requireNonNull(instrumentation);
+    }
+
+    /**
+     * Uninstalls the currently installed instrumentation, if any.
+     */
+    static void uninstall() {
+        Instruments.current = null;
+    }
+
+    /**
+     * Called when a {@link java.lang.reflect.Type} of a given kind is mapped to a {@link RawType}.
+     */
+    default void mapped(final Kind kind) {
+    }
+
+    /**
+     * Called when one of the internal caches is accessed.
+     *
+     * @param hit {@code true} if the cache already contained the requested item.
+     */
+    default void cacheAccessed(final Cache cache, final boolean hit) {
+    }
+
+    /**
+     * Called when the hierarchy of a {@link RawType} has been walked to determine all of its super types.
+     *
+     * @param size  The number of types in the hierarchy, including the type itself.
+     * @param depth The maximum depth of the hierarchy, 0 for a type without super types.
+     */
+    default void hierarchyWalked(final RawType type, final int size, final int depth) {
+    }
+
+    /**
+     * Called when the type(s) of a {@link Member} have been resolved in the context of a {@link RawType}, e.g. by
+     * {@link RawType#typeOf(java.lang.reflect.Field)}.
+     *
+     * @param nanos The time spent on the resolution in nanoseconds.
+     */
+    default void memberResolved(final RawType type, final Member member, final long nanos) {
+    }
+
+    /**
+     * The kinds of {@link java.lang.reflect.Type}s that may be mapped to a {@link RawType}.
+     */
+    enum Kind {
+        CLASS,
+        PARAMETERIZED,
+        GENERIC_ARRAY,
+        TYPE_VARIABLE,
+        WILDCARD
+    }
+
+    /**
+     * The internal caches.
+     */
+    enum Cache {
+
+        /**
+         * The table of canonical types.
+         */
+        INTERNER,
+
+        /**
+         * The types resolved in the context of a certain type.
+         */
+        RESOLVED,
+
+        /**
+         * The results of {@link RawType#isAssignableFrom(RawType)}.
+         */
+        ASSIGNABLE,
+
+        /**
+         * The descriptors parsed by a {@link TypeParser}.
+         */
+        PARSED
+    }
+}
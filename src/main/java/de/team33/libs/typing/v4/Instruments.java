@@ -0,0 +1,12 @@
+package de.team33.libs.typing.v4;
+
+/**
+ * Holds the currently {@linkplain Instrumentation#install(Instrumentation) installed} {@link Instrumentation}.
+ */
+final class Instruments {
+
+    static volatile Instrumentation current = null;
+
+    private Instruments() {
+    }
+}
@@ -0,0 +1,135 @@
+package de.team33.libs.typing.v4;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Canonicalizes {@link BasicType}s by their {@link Core}, so that structurally equal types share one instance.
+ * <p>
+ * Canonical instances are only referenced weakly, so interning does not prevent classes (and their class loaders)
+ * from being unloaded.
+ * <p>
+ * In addition, each canonical instance gets a dense numeric id. The id of an instance that has been garbage
+ * collected will be reused for a new one. Since anything that uses an id (e.g. a {@link RawTypeMap}) also references
+ * the corresponding instance, this can not lead to confusion.
+ */
+final class Interner {
+
+    private static final ConcurrentMap<Object, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<BasicType> QUEUE = new ReferenceQueue<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(0);
+    private static final Queue<Integer> FREE_IDS = new ConcurrentLinkedQueue<>();
+
+    private Interner() {
+    }
+
+    /**
+     * Returns the canonical {@link BasicType} for a given {@link Core}, creating it by means of {@code newType} if
+     * not yet present.
+     */
+    static BasicType intern(final Core core, final Function<Core, ? extends BasicType> newType) {
+        expunge();
+        final Entry present = ENTRIES.get(new Probe(core));
+        final BasicType result = (null == present) ? null : present.get();
+        final Instrumentation instrumentation = Instruments.current;
+        if (null != instrumentation) {
+            instrumentation.cacheAccessed(Instrumentation.Cache.INTERNER, null != result);
+        }
+        return (null == result) ? insert(newType.apply(core)) : result;
+    }
+
+    /**
+     * Returns a numeric id for a new {@link BasicType}, preferably one that is no longer in use.
+     */
+    static int newId() {
+        final Integer free = FREE_IDS.poll();
+        return (null == free) ? NEXT_ID.getAndIncrement() : free;
+    }
+
+    private static BasicType insert(final BasicType candidate) {
+        final Entry entry = new Entry(candidate);
+        while (true) {
+            final Entry present = ENTRIES.putIfAbsent(entry, entry);
+            if (null == present) {
+                return candidate;
+            }
+            final BasicType result = present.get();
+            if (null != result) {
+                // The candidate is dropped, it never was in use.
+                // A cleared entry will not be enqueued, so its id is released only here ...
+                entry.clear();
+                FREE_IDS.offer(entry.id);
+                return result;
+            }
+            ENTRIES.remove(present, present);
+        }
+    }
+
+    private static void expunge() {
+        for (Reference<?> ref = QUEUE.poll(); null != ref; ref = QUEUE.poll()) {
+            ENTRIES.remove(ref, ref);
+            FREE_IDS.offer(((Entry) ref).id);
+        }
+    }
+
+    private static final class Entry extends WeakReference<BasicType> {
+
+        private final int hash;
+        private final int id;
+
+        private Entry(final BasicType referent) {
+            super(referent, QUEUE);
+            this.hash = referent.getCore().hashCode();
+            this.id = referent.getId();
+        }
+
+        @Override
+        public final int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public final boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            } else if (obj instanceof Entry) {
+                final BasicType referent = get();
+                final BasicType other = ((Entry) obj).get();
+                return (null != referent) && (null != other) && referent.getCore().equals(other.getCore());
+            } else {
+                return false;
+            }
+        }
+    }
+
+    private static final class Probe {
+
+        private final Core core;
+
+        private Probe(final Core core) {
+            this.core = core;
+        }
+
+        @Override
+        public final int hashCode() {
+            return core.hashCode();
+        }
+
+        @Override
+        public final boolean equals(final Object obj) {
+            if (obj instanceof Entry) {
+                final BasicType referent = ((Entry) obj).get();
+                return (null != referent) && core.equals(referent.getCore());
+            } else {
+                return false;
+            }
+        }
+    }
+}
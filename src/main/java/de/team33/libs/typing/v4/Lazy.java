@@ -4,32 +4,24 @@ import java.util.function.Supplier;
 
 class Lazy<T> implements Supplier<T> {
 
-    private Supplier<T> backing;
+    private Supplier<? extends T> initial;
+    private volatile T value;
 
-    Lazy(final Supplier<T> initial) {
-        this.backing = new Initial(initial);
+    Lazy(final Supplier<? extends T> initial) {
+        this.initial = initial;
     }
 
     @Override
     public final T get() {
-        return backing.get();
+        final T result = value;
+        return (null == result) ? initialized() : result;
     }
 
-    private final class Initial implements Supplier<T> {
-
-        private final Supplier<T> initial;
-
-        private Initial(final Supplier<T> initial) {
-            this.initial = initial;
-        }
-
-        @Override
-        public final synchronized T get() {
-            if (backing == this) {
-                final T result = initial.get();
-                backing = () -> result;
-            }
-            return backing.get();
+    private synchronized T initialized() {
+        if (null == value) {
+            value = initial.get();
+            initial = null;
         }
+        return value;
     }
 }
@@ -0,0 +1,139 @@
+package de.team33.libs.typing.v4;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * <p>Represents the resolved {@link RawType}s of all the fields and methods declared in the hierarchy of a
+ * {@link RawType}.</p>
+ * <p>All member types are resolved at once in a single pass over the hierarchy. Type variables that can not be
+ * bound in the context of the underlying {@link RawType} are represented as {@linkplain RawType#isVariable()
+ * unbound type variables}.</p>
+ *
+ * @see RawType#getMembers()
+ */
+public final class Members {
+
+    private static final String NOT_INCLUDED = "Member (%s) is not included in %s";
+
+    private final String owner;
+    private final Map<Field, RawType> fieldTypes = new LinkedHashMap<>();
+    private final Map<Method, RawType> returnTypes = new LinkedHashMap<>();
+    private final Map<Method, List<RawType>> parameterTypes = new LinkedHashMap<>();
+    private final Map<Method, List<RawType>> exceptionTypes = new LinkedHashMap<>();
+
+    Members(final String owner, final Collection<BasicType> hierarchy) {
+        this.owner = owner;
+        for (final BasicType declaring : hierarchy) {
+            final Class<?> declaringClass = declaring.getPrimeClass();
+            for (final Field field : declaringClass.getDeclaredFields()) {
+                fieldTypes.put(field, declaring.resolve(field.getGenericType()));
+            }
+            for (final Method method : declaringClass.getDeclaredMethods()) {
+                returnTypes.put(method, declaring.resolve(method.getGenericReturnType()));
+                parameterTypes.put(method, resolve(declaring, method.getGenericParameterTypes()));
+                exceptionTypes.put(method, resolve(declaring, method.getGenericExceptionTypes()));
+            }
+        }
+    }
+
+    private static List<RawType> resolve(final BasicType declaring, final Type[] types) {
+        return unmodifiableList(Stream.of(types)
+                                      .map(declaring::resolve)
+                                      .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the {@link RawType}s of all the fields declared in the hierarchy of the underlying
+     * {@link RawType}.
+     */
+    public final Map<Field, RawType> getFieldTypes() {
+        return unmodifiableMap(fieldTypes);
+    }
+
+    /**
+     * Returns the return {@link RawType}s of all the methods declared in the hierarchy of the
+     * underlying {@link RawType}.
+     */
+    public final Map<Method, RawType> getReturnTypes() {
+        return unmodifiableMap(returnTypes);
+    }
+
+    /**
+     * Returns the parameter {@link RawType}s of all the methods declared in the hierarchy of the
+     * underlying {@link RawType}.
+     */
+    public final Map<Method, List<RawType>> getParameterTypes() {
+        return unmodifiableMap(parameterTypes);
+    }
+
+    /**
+     * Returns the exception {@link RawType}s of all the methods declared in the hierarchy of the
+     * underlying {@link RawType}.
+     */
+    public final Map<Method, List<RawType>> getExceptionTypes() {
+        return unmodifiableMap(exceptionTypes);
+    }
+
+    /**
+     * Returns the {@link RawType} of a given {@link Field}.
+     *
+     * @throws IllegalArgumentException if the given {@link Field} is not included.
+     * @see RawType#typeOf(Field)
+     */
+    public final RawType typeOf(final Field field) {
+        return get(fieldTypes, field);
+    }
+
+    /**
+     * Returns the return {@link RawType} of a given {@link Method}.
+     *
+     * @throws IllegalArgumentException if the given {@link Method} is not included.
+     * @see RawType#returnTypeOf(Method)
+     */
+    public final RawType returnTypeOf(final Method method) {
+        return get(returnTypes, method);
+    }
+
+    /**
+     * Returns the parameter {@link RawType}s of a given {@link Method}.
+     *
+     * @throws IllegalArgumentException if the given {@link Method} is not included.
+     * @see RawType#parameterTypesOf(Method)
+     */
+    public final List<RawType> parameterTypesOf(final Method method) {
+        return get(parameterTypes, method);
+    }
+
+    /**
+     * Returns the exception {@link RawType}s of a given {@link Method}.
+     *
+     * @throws IllegalArgumentException if the given {@link Method} is not included.
+     * @see RawType#exceptionTypesOf(Method)
+     */
+    public final List<RawType> exceptionTypesOf(final Method method) {
+        return get(exceptionTypes, method);
+    }
+
+    private <M extends Member, R> R get(final Map<M, R> map, final M member) {
+        return Optional.ofNullable(map.get(member))
+                       .orElseThrow(() -> new IllegalArgumentException(String.format(NOT_INCLUDED, member, this)));
+    }
+
+    @Override
+    public final String toString() {
+        return "Members of " + owner;
+    }
+}
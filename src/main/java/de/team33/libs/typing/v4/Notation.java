@@ -0,0 +1,25 @@
+package de.team33.libs.typing.v4;
+
+/**
+ * The notations in which a {@link RawType} can be {@linkplain RawType#appendTo(Appendable, Notation) rendered}.
+ */
+public enum Notation {
+
+    /**
+     * Based on simple class names, e.g. {@code Map<String, List<Integer>>}. This is the notation used by
+     * {@link RawType#toString()}.
+     */
+    SIMPLE,
+
+    /**
+     * Based on canonical (fully qualified) class names, e.g.
+     * {@code java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>}.
+     */
+    CANONICAL,
+
+    /**
+     * The generic signature as used by the JVM, e.g.
+     * {@code Ljava/util/Map<Ljava/lang/String;Ljava/util/List<Ljava/lang/Integer;>;>;}.
+     */
+    SIGNATURE
+}
@@ -1,15 +1,62 @@
 package de.team33.libs.typing.v4;
 
-import java.util.Collections;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+@SuppressWarnings("serial") // see RawType.writeReplace()
 class ParameterizedType extends DiscreteType {
 
-    ParameterizedType(final java.lang.reflect.ParameterizedType type, final Context context) {
-        super((Class<?>) type.getRawType(), Collections.unmodifiableList(
-                Stream.of(type.getActualTypeArguments())
-                      .map(argument -> RawTypes.map(argument, context))
-                      .collect(Collectors.toList())));
+    private static final String ILLEGAL_PARAMETERS = "%s requires %d actual parameter(s) %s but was %s";
+    private static final String ILLEGAL_PRIMITIVE = "A primitive type (%s) can not be an actual parameter";
+
+    private ParameterizedType(final Core core) {
+        super(core);
+    }
+
+    static BasicType of(final java.lang.reflect.ParameterizedType type, final Context context) {
+        return of((Class<?>) type.getRawType(), Stream.of(type.getActualTypeArguments())
+                                                      .map(argument -> RawTypes.map(argument, context))
+                                                      .collect(Collectors.toList()));
+    }
+
+    static BasicType of(final Class<?> rawClass, final List<RawType> actualParameters) {
+        return Interner.intern(new Core(rawClass, actualParameters), ParameterizedType::new);
+    }
+
+    /**
+     * Like {@link #of(Class, List)} but checks if the actual parameters match the formal parameters of the given
+     * class. If the class has no formal parameters at all, the result is the plain class type.
+     *
+     * @throws IllegalArgumentException if the actual parameters do not match the formal ones.
+     */
+    static BasicType checked(final Class<?> rawClass, final List<? extends RawType> actualParameters) {
+        final TypeVariable<?>[] formalParameters = rawClass.getTypeParameters();
+        if (formalParameters.length != actualParameters.size()) {
+            throw new IllegalArgumentException(String.format(ILLEGAL_PARAMETERS, rawClass.getSimpleName(),
+                                                             formalParameters.length,
+                                                             Arrays.toString(formalParameters), actualParameters));
+        }
+        if (actualParameters.isEmpty()) {
+            return RawTypes.map(rawClass).getBacking();
+        }
+        final List<RawType> backings = new ArrayList<>(actualParameters.size());
+        for (final RawType parameter : actualParameters) {
+            if (parameter.getPrimeClass().isPrimitive()) {
+                throw new IllegalArgumentException(String.format(ILLEGAL_PRIMITIVE, parameter));
+            }
+            backings.add(parameter.getBacking());
+        }
+        return of(rawClass, backings);
+    }
+
+    @Override
+    final BasicType substitute(final Context context) {
+        final List<RawType> actualParameters = getActualParameters();
+        final List<RawType> substitutes = substitute(actualParameters, context);
+        return (substitutes == actualParameters) ? this : of(getPrimeClass(), substitutes);
     }
 }
@@ -2,9 +2,15 @@ package de.team33.libs.typing.v4;
 
 import static java.util.Collections.singletonList;
 
+@SuppressWarnings("serial") // see RawType.writeReplace()
 class PlainArrayType extends ArrayType {
 
-    PlainArrayType(final Class<?> rawClass) {
-        super(rawClass, singletonList(RawTypes.map(rawClass.getComponentType())));
+    private PlainArrayType(final Core core) {
+        super(core);
+    }
+
+    static BasicType of(final Class<?> rawClass) {
+        final Core core = new Core(rawClass, singletonList(RawTypes.map(rawClass.getComponentType())));
+        return Interner.intern(core, PlainArrayType::new);
     }
 }
@@ -2,9 +2,19 @@ package de.team33.libs.typing.v4;
 
 import static java.util.Collections.emptyList;
 
+@SuppressWarnings("serial") // see RawType.writeReplace()
 class PlainClassType extends DiscreteType {
 
-    PlainClassType(final Class<?> rawClass) {
-        super(rawClass, emptyList());
+    private PlainClassType(final Core core) {
+        super(core);
+    }
+
+    static BasicType of(final Class<?> rawClass) {
+        return Interner.intern(new Core(rawClass, emptyList()), PlainClassType::new);
+    }
+
+    @Override
+    final BasicType substitute(final Context context) {
+        return this;
     }
 }
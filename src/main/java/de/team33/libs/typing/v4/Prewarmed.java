@@ -0,0 +1,128 @@
+package de.team33.libs.typing.v4;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * <p>The result of {@linkplain Type#prewarm(Collection, Executor) pre-warming} a number of types.</p>
+ * <p>Holds the resolved {@link RawType}s, so the cached information stays available as long as this is
+ * referenced.</p>
+ */
+public final class Prewarmed {
+
+    private final List<RawType> types;
+    private final Map<java.lang.reflect.Type, Throwable> failures;
+    private final long superTypes;
+    private final long members;
+    private final long nanos;
+
+    private Prewarmed(final List<Item> items, final long nanos) {
+        final List<RawType> types = new ArrayList<>(items.size());
+        final Map<java.lang.reflect.Type, Throwable> failures = new LinkedHashMap<>();
+        long superTypes = 0;
+        long members = 0;
+        for (final Item item : items) {
+            if (null == item.failure) {
+                types.add(item.rawType);
+                superTypes += item.superTypes;
+                members += item.members;
+            } else {
+                failures.put(item.type, item.failure);
+            }
+        }
+        this.types = unmodifiableList(types);
+        this.failures = unmodifiableMap(failures);
+        this.superTypes = superTypes;
+        this.members = members;
+        this.nanos = nanos;
+    }
+
+    static CompletableFuture<Prewarmed> start(final Collection<? extends java.lang.reflect.Type> types,
+                                              final Executor executor) {
+        final long start = System.nanoTime();
+        final List<CompletableFuture<Item>> futures = new ArrayList<>(types.size());
+        for (final java.lang.reflect.Type type : types) {
+            futures.add(CompletableFuture.supplyAsync(() -> new Item(type), executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                                .thenApply(ignored -> {
+                                    final List<Item> items = new ArrayList<>(futures.size());
+                                    futures.forEach(future -> items.add(future.join()));
+                                    return new Prewarmed(items, System.nanoTime() - start);
+                                });
+    }
+
+    /**
+     * Returns the successfully resolved types in the order of the originally given types.
+     */
+    public final List<RawType> getTypes() {
+        return types;
+    }
+
+    /**
+     * Returns the types that could not be resolved, each associated with the cause.
+     */
+    public final Map<java.lang.reflect.Type, Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns the total number of (transitive) super types of the resolved types.
+     */
+    public final long getSuperTypes() {
+        return superTypes;
+    }
+
+    /**
+     * Returns the total number of members (fields and methods) whose types have been resolved.
+     */
+    public final long getMembers() {
+        return members;
+    }
+
+    /**
+     * Returns the time elapsed from the start until the completion of the pre-warming in nanoseconds.
+     */
+    public final long getNanos() {
+        return nanos;
+    }
+
+    @Override
+    public final String toString() {
+        return "Prewarmed{types=" + types.size() +
+                ", failures=" + failures.size() +
+                ", superTypes=" + superTypes +
+                ", members=" + members +
+                ", nanos=" + nanos +
+                "}";
+    }
+
+    private static final class Item {
+
+        private final java.lang.reflect.Type type;
+        private RawType rawType;
+        private int superTypes;
+        private int members;
+        private Throwable failure;
+
+        private Item(final java.lang.reflect.Type type) {
+            this.type = type;
+            try {
+                rawType = RawTypes.map(type);
+                superTypes = rawType.getAllSuperTypes().size();
+                final Members resolved = rawType.getMembers();
+                members = resolved.getFieldTypes().size() + resolved.getReturnTypes().size();
+            } catch (final RuntimeException | LinkageError e) {
+                failure = e;
+            }
+        }
+    }
+}
@@ -1,20 +1,30 @@
 package de.team33.libs.typing.v4;
 
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * Represents the composition of a definite type that can be based on a generic as well as a non-generic class.
+ * <p>Represents the composition of a definite type that can be based on a generic as well as a non-generic class.</p>
+ * <p>As an actual parameter of such a type, a {@link RawType} may also represent a {@linkplain #isWildcard() wildcard}.
+ * When resolving members in the context of an incompletely defined type, a {@link RawType} may also represent an
+ * unbound {@linkplain #isVariable() type variable}.</p>
+ * <p>A {@link RawType} is {@link Serializable} (except an unbound type variable). Its serial form is the
+ * {@linkplain TypeCodec binary encoding}, which is deserialized as the canonical equivalent {@link Type}.</p>
  */
-public abstract class RawType {
+public abstract class RawType implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private static final String NOT_DECLARED_IN_THIS = "Member (%s) is not declared in the context of this Type (%s)";
 
@@ -39,6 +49,48 @@ public abstract class RawType {
      */
     public abstract List<RawType> getActualParameters();
 
+    /**
+     * Returns the upper bounds of this {@link RawType} if it represents a wildcard or a type variable, e.g.
+     * {@code [Number]} for {@code ? extends Number} or {@code [Object]} for {@code ?}. Otherwise the result is empty.
+     *
+     * @see #isWildcard()
+     * @see #isVariable()
+     * @see java.lang.reflect.WildcardType#getUpperBounds()
+     * @see java.lang.reflect.TypeVariable#getBounds()
+     */
+    public abstract List<RawType> getUpperBounds();
+
+    /**
+     * Returns the lower bounds of this {@link RawType} if it represents a wildcard, e.g. {@code [Integer]} for
+     * {@code ? super Integer}. Otherwise the result is empty.
+     *
+     * @see #isWildcard()
+     * @see java.lang.reflect.WildcardType#getLowerBounds()
+     */
+    public abstract List<RawType> getLowerBounds();
+
+    /**
+     * Determines if this {@link RawType} represents a wildcard like {@code ?}, {@code ? extends Number} or
+     * {@code ? super Integer}. In that case the {@linkplain #getPrimeClass() prime class} is the one of the (first)
+     * {@linkplain #getUpperBounds() upper bound}.
+     */
+    public final boolean isWildcard() {
+        return getBacking() instanceof WildcardType;
+    }
+
+    /**
+     * <p>Determines if this {@link RawType} represents a type variable that could not be bound to an actual type,
+     * e.g. the return type {@code E} of {@link List#get(int)} in the context of the raw type {@code List}.</p>
+     * <p>In that case {@link #toString()} returns the name of the variable and the
+     * {@linkplain #getPrimeClass() prime class} is the erasure of its (first) {@linkplain #getUpperBounds() bound}.
+     * </p>
+     *
+     * @see #resolve(Function)
+     */
+    public final boolean isVariable() {
+        return getBacking() instanceof VariableType;
+    }
+
     /**
      * Returns a specific actual parameter based on the corresponding formal parameter.
      *
@@ -61,39 +113,123 @@ public abstract class RawType {
         }
     }
 
+    final RawType nullableActualParameter(final String formalParameter) {
+        final int index = getFormalParameters().indexOf(formalParameter);
+        final List<RawType> actualParameters = getActualParameters();
+        return ((0 <= index) && (index < actualParameters.size())) ? actualParameters.get(index) : null;
+    }
+
+    /**
+     * <p>Returns a {@link RawType} where all the unbound {@linkplain #isVariable() type variables} (including nested
+     * ones) are substituted by the {@link RawType}s that a given function returns for their names.</p>
+     * <p>Type variables for which the function returns {@code null} remain unbound. If there is nothing to
+     * substitute at all, the result is this {@link RawType} itself.</p>
+     */
+    public final RawType resolve(final Function<? super String, ? extends RawType> actuals) {
+        final BasicType backing = getBacking();
+        final BasicType result = backing.isResolved() ? backing : backing.substitute(actuals::apply);
+        return (result == backing) ? this : result;
+    }
+
     /**
-     * Returns the {@link RawType} from which this {@link RawType} is derived (if so).
+     * Returns the {@link RawType} from which this {@link RawType} is derived (if so). The result is computed once
+     * and cached.
      *
      * @see Class#getSuperclass()
      * @see Class#getGenericSuperclass()
      */
     public final Optional<RawType> getSuperType() {
-        return Optional.ofNullable(getPrimeClass().getGenericSuperclass())
-                       .map(type -> RawTypes.map(type, this::getActualParameter));
+        return getBacking().getDirectSuperTypes().getSuperType();
     }
 
     /**
      * Returns the interfaces as {@link RawType} from which this {@link RawType} is derived (if so).
      *
+     * @see #getInterfaceTypeList()
      * @see Class#getInterfaces()
      * @see Class#getGenericInterfaces()
      */
     public final Stream<RawType> getInterfaceTypes() {
-        return Stream.of(getPrimeClass().getGenericInterfaces())
-                     .map(type -> RawTypes.map(type, this::getActualParameter));
+        return getInterfaceTypeList().stream();
+    }
+
+    /**
+     * Returns the interfaces as {@link RawType} from which this {@link RawType} is derived (if so) as an
+     * unmodifiable list. The result is computed once and cached.
+     *
+     * @see #getInterfaceTypes()
+     */
+    public final List<RawType> getInterfaceTypeList() {
+        return getBacking().getDirectSuperTypes().getInterfaceTypes();
     }
 
     /**
      * Returns all the {@link RawType}s (superclass, interfaces) from which this {@link RawType} is derived (if so).
      *
+     * @see #getSuperTypeList()
      * @see #getSuperType()
      * @see #getInterfaceTypes()
      */
     public final Stream<RawType> getSuperTypes() {
-        return Stream.concat(
-                getSuperType().map(Stream::of)
-                              .orElseGet(Stream::empty),
-                getInterfaceTypes());
+        return getSuperTypeList().stream();
+    }
+
+    /**
+     * Returns all the {@link RawType}s (superclass first, then interfaces) from which this {@link RawType} is
+     * derived (if so) as an unmodifiable list. The result is computed once and cached.
+     *
+     * @see #getSuperTypes()
+     */
+    public final List<RawType> getSuperTypeList() {
+        return getBacking().getDirectSuperTypes().getSuperTypes();
+    }
+
+    /**
+     * <p>Returns all the {@link RawType}s from which this {@link RawType} is derived, directly or indirectly, without
+     * duplicates.</p>
+     * <p>The order is the one of a depth-first traversal of the {@linkplain #getSuperTypes() direct super types}.
+     * The result is computed once and cached.</p>
+     *
+     * @see #getSuperTypes()
+     * @see #hasSuperType(RawType)
+     */
+    public final List<RawType> getAllSuperTypes() {
+        return getBacking().getHierarchy().getSuperTypes();
+    }
+
+    /**
+     * Determines if this {@link RawType} is derived, directly or indirectly, from a given {@link RawType}.
+     * Once the hierarchy of this {@link RawType} is known, this is a constant-time check.
+     *
+     * @see #getAllSuperTypes()
+     */
+    public final boolean hasSuperType(final RawType superType) {
+        return getBacking().getHierarchy().hasSuperType(superType.getBacking());
+    }
+
+    /**
+     * <p>Returns the view of this {@link RawType} as a given superclass or interface, if that is part of its
+     * hierarchy (including the {@linkplain #getPrimeClass() prime class} itself).</p>
+     * <p>Example: The view of {@code ArrayList<String>} as {@link java.util.Collection} is
+     * {@code Collection<String>}.</p>
+     */
+    public final Optional<RawType> asSuperType(final Class<?> superClass) {
+        return Optional.ofNullable(getBacking().getSuperTypeView(superClass));
+    }
+
+    /**
+     * <p>Determines if values of a given {@link RawType} are assignable to this {@link RawType}, respecting the
+     * actual parameters. Example: {@code Collection<? extends CharSequence>} is assignable from
+     * {@code ArrayList<String>} but not from {@code ArrayList<Object>}.</p>
+     * <p>Raw types are considered assignable to parameterized ones (unchecked conversion), while types based on
+     * unbound type variables (e.g. {@code List<E>}) are compared like any other parameterized type. Primitive types
+     * are only assignable from themselves (no boxing). Results are memorized without preventing the involved types
+     * from being garbage collected.</p>
+     *
+     * @see Class#isAssignableFrom(Class)
+     */
+    public final boolean isAssignableFrom(final RawType other) {
+        return getBacking().assignableFrom(other.getBacking());
     }
 
     /**
@@ -157,40 +293,96 @@ public abstract class RawType {
                 .orElseThrow(() -> illegalMemberException(method));
     }
 
+    /**
+     * Returns the resolved {@link RawType}s of all the fields and methods declared in the hierarchy of this
+     * {@link RawType}, resolved at once and cached.
+     *
+     * @see Members
+     */
+    public final Members getMembers() {
+        return getBacking().cachedMembers();
+    }
+
     private IllegalArgumentException illegalMemberException(final Member member) {
         return new IllegalArgumentException(String.format(NOT_DECLARED_IN_THIS, member, this));
     }
 
     private List<RawType> nullableTypesOf(final Method member,
                                           final Function<Method, Type[]> toGenericTypes) {
-        if (getPrimeClass().equals(member.getDeclaringClass())) {
-            return Stream.of(toGenericTypes.apply(member))
-                         .map(type -> RawTypes.map(type, this::getActualParameter))
-                         .collect(Collectors.toList());
-        } else {
-            return getSuperTypes()
-                    .map(st -> st.nullableTypesOf(member, toGenericTypes))
-                    .filter(Objects::nonNull)
-                    .findAny()
-                    .orElse(null);
+        final Instrumentation instrumentation = Instruments.current;
+        final long start = (null == instrumentation) ? 0L : System.nanoTime();
+        final Object event = Events.beginMemberResolution();
+        final BasicType declaring = getBacking().getSuperTypeView(member.getDeclaringClass());
+        final List<RawType> result = (null == declaring) ? null : Stream.of(toGenericTypes.apply(member))
+                                                                        .map(declaring::resolve)
+                                                                        .collect(Collectors.toList());
+        Events.commit(event, this, member);
+        if (null != instrumentation) {
+            instrumentation.memberResolved(this, member, System.nanoTime() - start);
         }
+        return result;
     }
 
     private <M extends Member> RawType nullableTypeOf(final M member,
                                                       final Function<M, Type> toGenericType) {
-        if (getPrimeClass().equals(member.getDeclaringClass())) {
-            return RawTypes.map(toGenericType.apply(member), this::getActualParameter);
-        } else {
-            return getSuperTypes()
-                    .map(st -> st.nullableTypeOf(member, toGenericType))
-                    .filter(Objects::nonNull)
-                    .findAny()
-                    .orElse(null);
+        final Instrumentation instrumentation = Instruments.current;
+        final long start = (null == instrumentation) ? 0L : System.nanoTime();
+        final Object event = Events.beginMemberResolution();
+        final BasicType declaring = getBacking().getSuperTypeView(member.getDeclaringClass());
+        final RawType result = (null == declaring) ? null : declaring.resolve(toGenericType.apply(member));
+        Events.commit(event, this, member);
+        if (null != instrumentation) {
+            instrumentation.memberResolved(this, member, System.nanoTime() - start);
         }
+        return result;
+    }
+
+    /**
+     * Returns the rendering of this {@link RawType} in a given {@link Notation}. The result is computed once per
+     * canonical type and cached.
+     *
+     * @see #toString()
+     */
+    public final String toString(final Notation notation) {
+        return getBacking().render(notation);
+    }
+
+    /**
+     * Appends the rendering of this {@link RawType} in a given {@link Notation} to a given {@link StringBuilder}.
+     *
+     * @return The given {@link StringBuilder}.
+     * @see #toString(Notation)
+     */
+    public final StringBuilder appendTo(final StringBuilder target, final Notation notation) {
+        return target.append(getBacking().render(notation));
+    }
+
+    /**
+     * Appends the rendering of this {@link RawType} in a given {@link Notation} to a given {@link Appendable}.
+     *
+     * @return The given {@link Appendable}.
+     * @see #toString(Notation)
+     */
+    public final Appendable appendTo(final Appendable target, final Notation notation) throws IOException {
+        return target.append(getBacking().render(notation));
     }
 
     abstract Core getCore();
 
+    abstract BasicType getBacking();
+
+    /**
+     * Replaces this {@link RawType} by its serial form when serialized. Since instances are never serialized
+     * directly, derived classes need no {@code serialVersionUID}.
+     */
+    protected final Object writeReplace() throws ObjectStreamException {
+        try {
+            return new SerialForm(this);
+        } catch (final IllegalArgumentException e) {
+            throw new NotSerializableException(e.getMessage());
+        }
+    }
+
     @Override
     public final int hashCode() {
         return getCore().hashCode();
@@ -201,6 +393,13 @@ public abstract class RawType {
         return (this == obj) || ((obj instanceof RawType) && getCore().equals(((RawType) obj).getCore()));
     }
 
+    /**
+     * Returns the rendering of this {@link RawType} in the {@linkplain Notation#SIMPLE simple notation}.
+     *
+     * @see #toString(Notation)
+     */
     @Override
-    public abstract String toString();
+    public final String toString() {
+        return getBacking().render(Notation.SIMPLE);
+    }
 }
@@ -0,0 +1,267 @@
+package de.team33.libs.typing.v4;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <p>A {@link Map} with {@link RawType}s as keys that is backed by an open-addressed table, indexed by an internal
+ * numeric id of the keys. Looking up a key is typically a single array access and an identity check instead of
+ * computing hash codes and comparing type structures.</p>
+ * <p>The size of the table depends on the number of entries, not on the ids of the keys. Since ids are dense, keys
+ * that have been mapped in close succession usually occupy consecutive slots without collisions.</p>
+ * <p>Keys are held in their canonical form, so the keys returned by {@link #keySet()} or {@link #entrySet()} are
+ * {@linkplain RawType#equals(Object) equal} to, but not necessarily the same as, those that have been put.</p>
+ * <p>This implementation is not synchronized. For concurrent use see {@link ConcurrentRawTypeMap}.</p>
+ */
+public class RawTypeMap<V> extends AbstractMap<RawType, V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private BasicType[] keys = new BasicType[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Initializes a new, empty instance.
+     */
+    public RawTypeMap() {
+    }
+
+    /**
+     * Initializes a new instance containing the mappings of a given {@link Map}.
+     */
+    public RawTypeMap(final Map<? extends RawType, ? extends V> origin) {
+        putAll(origin);
+    }
+
+    /**
+     * Returns the slot of a given key in a table, or {@code -1} if the key is not present.
+     */
+    static int indexOf(final BasicType[] keys, final Object key) {
+        if ((key instanceof RawType) && (0 < keys.length)) {
+            final int index = slotOf(keys, ((RawType) key).getBacking());
+            return (null == keys[index]) ? -1 : index;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the slot of a given key in a non-empty table or the free slot where it would be placed.
+     * A table is never completely filled, so there is always a free slot.
+     */
+    static int slotOf(final BasicType[] keys, final BasicType key) {
+        final int mask = keys.length - 1;
+        int index = key.getId() & mask;
+        while ((null != keys[index]) && (keys[index] != key)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the capacity (a power of two) of a table that is at most half filled with a given number of entries.
+     */
+    static int capacityFor(final int size) {
+        int result = INITIAL_CAPACITY;
+        while (result < (2 * size)) {
+            result <<= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Copies all entries of a table into a new, empty table.
+     */
+    static void rehash(final BasicType[] keys, final Object[] values,
+                       final BasicType[] newKeys, final Object[] newValues) {
+        for (int index = 0; index < keys.length; ++index) {
+            if (null != keys[index]) {
+                final int slot = slotOf(newKeys, keys[index]);
+                newKeys[slot] = keys[index];
+                newValues[slot] = values[index];
+            }
+        }
+    }
+
+    /**
+     * Clears an occupied slot of a table and moves subsequent entries of the same cluster as necessary, so that
+     * all remaining entries stay reachable by {@link #slotOf(BasicType[], BasicType)}.
+     */
+    static void delete(final BasicType[] keys, final Object[] values, final int index) {
+        final int mask = keys.length - 1;
+        int hole = index;
+        keys[hole] = null;
+        values[hole] = null;
+        for (int next = (hole + 1) & mask; null != keys[next]; next = (next + 1) & mask) {
+            final int home = keys[next].getId() & mask;
+            // the entry may fill the hole if the hole lies on its probe path from home to next ...
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                keys[next] = null;
+                values[next] = null;
+                hole = next;
+            }
+        }
+    }
+
+    @Override
+    public final int size() {
+        return size;
+    }
+
+    @Override
+    public final boolean containsKey(final Object key) {
+        return 0 <= indexOf(keys, key);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final V get(final Object key) {
+        final int index = indexOf(keys, key);
+        return (0 > index) ? null : (V) values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final V put(final RawType key, final V value) {
+        final BasicType backing = key.getBacking();
+        int index = slotOf(keys, backing);
+        if (null == keys[index]) {
+            if (keys.length < capacityFor(size + 1)) {
+                final BasicType[] newKeys = new BasicType[keys.length << 1];
+                final Object[] newValues = new Object[newKeys.length];
+                rehash(keys, values, newKeys, newValues);
+                keys = newKeys;
+                values = newValues;
+                index = slotOf(keys, backing);
+            }
+            keys[index] = backing;
+            size += 1;
+        }
+        final V result = (V) values[index];
+        values[index] = value;
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public final V remove(final Object key) {
+        final int index = indexOf(keys, key);
+        if (0 > index) {
+            return null;
+        }
+        final V result = (V) values[index];
+        delete(keys, values, index);
+        size -= 1;
+        return result;
+    }
+
+    @Override
+    public final void clear() {
+        keys = new BasicType[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    @Override
+    public final Set<Entry<RawType, V>> entrySet() {
+        return new AbstractSet<Entry<RawType, V>>() {
+            @Override
+            public Iterator<Entry<RawType, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<RawType, V>> {
+
+        // A removal may move entries to other slots, so the keys are iterated on a snapshot ...
+        private final BasicType[] snapshot = keys.clone();
+        private int next = seek(0);
+        private BasicType last = null;
+
+        private int seek(final int start) {
+            int index = start;
+            while ((index < snapshot.length) && (null == snapshot[index])) {
+                index += 1;
+            }
+            return index;
+        }
+
+        @Override
+        public final boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public final Entry<RawType, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = snapshot[next];
+            next = seek(next + 1);
+            return new Slot(last);
+        }
+
+        @Override
+        public final void remove() {
+            if (null == last) {
+                throw new IllegalStateException();
+            }
+            RawTypeMap.this.remove(last);
+            last = null;
+        }
+    }
+
+    private final class Slot implements Entry<RawType, V> {
+
+        private final RawType key;
+
+        private Slot(final RawType key) {
+            this.key = key;
+        }
+
+        @Override
+        public final RawType getKey() {
+            return key;
+        }
+
+        @Override
+        public final V getValue() {
+            return get(key);
+        }
+
+        @Override
+        public final V setValue(final V value) {
+            return put(key, value);
+        }
+
+        @Override
+        public final int hashCode() {
+            return key.hashCode() ^ ((null == getValue()) ? 0 : getValue().hashCode());
+        }
+
+        @Override
+        public final boolean equals(final Object obj) {
+            return (this == obj) || ((obj instanceof Entry)
+                    && key.equals(((Entry<?, ?>) obj).getKey())
+                    && Objects.equals(getValue(), ((Entry<?, ?>) obj).getValue()));
+        }
+
+        @Override
+        public final String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
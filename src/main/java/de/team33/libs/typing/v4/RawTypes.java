@@ -2,21 +2,35 @@ package de.team33.libs.typing.v4;
 
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
-import java.util.function.Function;
-import java.util.function.Predicate;
 
-enum RawTypes implements Function<TypeContext, RawType> {
+enum RawTypes {
 
-    CLASS(on(Filter.ARRAY_CLASS, Method.ARRAY_CLASS, Method.PLAIN_CLASS)),
-    GENERIC_2(on(Filter.TYPE_VARIABLE, Method.TYPE_VARIABLE, Method.FAIL)),
-    GENERIC_1(on(Filter.GENERIC_ARRAY, Method.GENERIC_ARRAY, GENERIC_2)),
-    GENERIC(on(Filter.PARAMETERIZED, Method.PARAMETERIZED, GENERIC_1)),
-    UNKNOWN(on(Filter.CLASS, CLASS, GENERIC));
+    PARAMETERIZED(java.lang.reflect.ParameterizedType.class, Instrumentation.Kind.PARAMETERIZED),
+    GENERIC_ARRAY(java.lang.reflect.GenericArrayType.class, Instrumentation.Kind.GENERIC_ARRAY),
+    TYPE_VARIABLE(TypeVariable.class, Instrumentation.Kind.TYPE_VARIABLE),
+    WILDCARD(java.lang.reflect.WildcardType.class, Instrumentation.Kind.WILDCARD),
+    UNKNOWN(Type.class, null);
 
-    private final Function<TypeContext, RawType> backing;
+    private static final RawTypes[] KINDS = values();
+    private static final ClassLoader LOADER = RawTypes.class.getClassLoader();
 
-    RawTypes(final Function<TypeContext, RawType> backing) {
-        this.backing = backing;
+    /**
+     * Holds the mapping of {@linkplain #isCacheable(Class) cacheable} classes. Any other class (e.g. one of the
+     * JDK) is mapped through the weak interner only.
+     */
+    private static final ClassValue<RawType> CLASSES = new ClassValue<RawType>() {
+        @Override
+        protected RawType computeValue(final Class<?> type) {
+            return newClassType(type);
+        }
+    };
+
+    private final Class<? extends Type> typeInterface;
+    private final Instrumentation.Kind kind;
+
+    RawTypes(final Class<? extends Type> typeInterface, final Instrumentation.Kind kind) {
+        this.typeInterface = typeInterface;
+        this.kind = kind;
     }
 
     static RawType map(final Type type) {
@@ -24,48 +38,63 @@ enum RawTypes implements Function<TypeContext, RawType> {
     }
 
     static RawType map(final Type type, final Context context) {
-        return map(new TypeContext(type, context));
-    }
-
-    private static RawType map(final TypeContext typeContext) {
-        return UNKNOWN.apply(typeContext);
+        final Instrumentation instrumentation = Instruments.current;
+        if (type instanceof Class) {
+            if (null != instrumentation) {
+                instrumentation.mapped(Instrumentation.Kind.CLASS);
+            }
+            final Class<?> rawClass = (Class<?>) type;
+            return isCacheable(rawClass) ? CLASSES.get(rawClass) : newClassType(rawClass);
+        }
+        final RawTypes kind = kindOf(type);
+        if ((null != instrumentation) && (null != kind.kind)) {
+            instrumentation.mapped(kind.kind);
+        }
+        switch (kind) {
+        case PARAMETERIZED:
+            return ParameterizedType.of((java.lang.reflect.ParameterizedType) type, context);
+        case GENERIC_ARRAY:
+            return GenericArrayType.of((java.lang.reflect.GenericArrayType) type, context);
+        case TYPE_VARIABLE:
+            return typeVariableType((TypeVariable<?>) type, context);
+        case WILDCARD:
+            return WildcardType.of((java.lang.reflect.WildcardType) type, context);
+        default:
+            throw new IllegalArgumentException("unknown type of type: " + type.getClass());
+        }
     }
 
-    private static Function<TypeContext, RawType> on(final Predicate<Type> condition,
-                                                     final Function<TypeContext, RawType> positive,
-                                                     final Function<TypeContext, RawType> negative) {
-        return ctx -> condition.test(ctx.type) ? positive.apply(ctx) : negative.apply(ctx);
+    private static RawType newClassType(final Class<?> type) {
+        return type.isArray() ? PlainArrayType.of(type) : PlainClassType.of(type);
     }
 
-    private static RawType typeVariableType(final TypeVariable<?> type, final Context context) {
-        return context.getActual(type.getName());
-    }
-
-    @Override
-    public final RawType apply(final TypeContext typeContext) {
-        return backing.apply(typeContext);
+    /**
+     * Determines if a value associated with the given class by a {@link ClassValue} of this library can not pin
+     * the library's class loader, which is the case if the class is defined by that loader or one of its
+     * descendants.
+     */
+    static boolean isCacheable(final Class<?> type) {
+        for (ClassLoader loader = type.getClassLoader(); ; loader = loader.getParent()) {
+            if (LOADER == loader) {
+                return true;
+            } else if (null == loader) {
+                return false;
+            }
+        }
     }
 
-    @SuppressWarnings("InnerClassFieldHidesOuterClassField")
-    @FunctionalInterface
-    private interface Filter extends Predicate<Type> {
-        Filter CLASS = type -> type instanceof Class;
-        Filter ARRAY_CLASS = type -> ((Class<?>) type).isArray();
-        Filter PARAMETERIZED = type -> type instanceof java.lang.reflect.ParameterizedType;
-        Filter GENERIC_ARRAY = type -> type instanceof java.lang.reflect.GenericArrayType;
-        Filter TYPE_VARIABLE = type -> type instanceof TypeVariable;
+    private static RawTypes kindOf(final Type type) {
+        for (final RawTypes kind : KINDS) {
+            if (kind.typeInterface.isInstance(type)) {
+                return kind;
+            }
+        }
+        return UNKNOWN;
     }
 
-    @SuppressWarnings("InnerClassFieldHidesOuterClassField")
-    @FunctionalInterface
-    private interface Method extends Function<TypeContext, RawType> {
-        Method ARRAY_CLASS = ctx -> new PlainArrayType((Class<?>) ctx.type);
-        Method PLAIN_CLASS = ctx -> new PlainClassType((Class<?>) ctx.type);
-        Method PARAMETERIZED = ctx -> new ParameterizedType((java.lang.reflect.ParameterizedType) ctx.type, ctx.context);
-        Method GENERIC_ARRAY = ctx -> new GenericArrayType((java.lang.reflect.GenericArrayType) ctx.type, ctx.context);
-        Method TYPE_VARIABLE = ctx -> typeVariableType((TypeVariable<?>) ctx.type, ctx.context);
-        Method FAIL = ctx -> {
-            throw new IllegalArgumentException("unknown type of type: " + ctx.type.getClass());
-        };
+    private static RawType typeVariableType(final TypeVariable<?> type, final Context context) {
+        // Type variables of generic methods or constructors can not be bound by the context of a class ...
+        final RawType actual = (type.getGenericDeclaration() instanceof Class) ? context.getActual(type.getName()) : null;
+        return (null == actual) ? VariableType.of(type) : actual;
     }
 }
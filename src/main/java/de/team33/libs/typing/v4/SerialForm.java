@@ -0,0 +1,38 @@
+package de.team33.libs.typing.v4;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * The serial form of a {@link RawType}, based on its {@linkplain TypeCodec binary encoding}.
+ */
+final class SerialForm implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] encoded;
+
+    SerialForm(final RawType type) {
+        this.encoded = TypeCodec.encode(type);
+    }
+
+    private static ClassLoader classLoader() {
+        final ClassLoader result = Thread.currentThread().getContextClassLoader();
+        return (null == result) ? SerialForm.class.getClassLoader() : result;
+    }
+
+    /**
+     * Returns the canonical {@link Type} equivalent to the originally serialized {@link RawType}.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        try {
+            return TypeCodec.decode(encoded, classLoader()).getBacking().getType();
+        } catch (final IOException | ClassNotFoundException e) {
+            final InvalidObjectException result = new InvalidObjectException(e.getMessage());
+            result.initCause(e);
+            throw result;
+        }
+    }
+}
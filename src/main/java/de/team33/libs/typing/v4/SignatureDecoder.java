@@ -0,0 +1,161 @@
+package de.team33.libs.typing.v4;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * <p>Decodes JVM generic signatures of types into {@link RawType}s, e.g.</p>
+ * <pre>
+ * Ljava/util/Map&lt;Ljava/lang/String;Ljava/util/List&lt;Ljava/lang/Integer;&gt;;&gt;;
+ * </pre>
+ * <p>A decoder reads a sequence of consecutive type signatures (e.g. the parameter types of a method signature)
+ * one by one. Classes are loaded by a given {@link ClassLoader}.</p>
+ * <p>The inverse operation is {@link RawType#toString(Notation) toString}{@code (}{@link Notation#SIGNATURE}{@code )}.
+ * Type variables can not be decoded since they can not be resolved without a context.</p>
+ * <p>Instances are not thread safe.</p>
+ */
+public final class SignatureDecoder {
+
+    private static final String UNEXPECTED = "Unexpected %s at position %d in <%s>";
+    private static final String NOT_SUPPORTED = "Type variable at position %d in <%s> can not be decoded";
+    private static final String UNKNOWN = "Unknown class <%s> at position %d in <%s>";
+
+    private final CharSequence signature;
+    private final ClassLoader loader;
+    private final Map<String, Class<?>> classes = new HashMap<>();
+    private int position = 0;
+
+    public SignatureDecoder(final CharSequence signature, final ClassLoader loader) {
+        this.signature = signature;
+        this.loader = loader;
+    }
+
+    /**
+     * Decodes a signature consisting of exactly one type.
+     *
+     * @throws IllegalArgumentException if the signature is malformed, contains type variables or refers to
+     *                                  unknown classes.
+     */
+    public static RawType decode(final CharSequence signature, final ClassLoader loader) {
+        final SignatureDecoder decoder = new SignatureDecoder(signature, loader);
+        final RawType result = decoder.next();
+        if (decoder.hasNext()) {
+            throw decoder.unexpected("character '" + signature.charAt(decoder.position) + "'");
+        }
+        return result;
+    }
+
+    /**
+     * Determines if there are more type signatures to decode.
+     */
+    public final boolean hasNext() {
+        return position < signature.length();
+    }
+
+    /**
+     * Decodes the next type signature.
+     *
+     * @throws IllegalArgumentException if the signature is malformed, contains type variables or refers to
+     *                                  unknown classes.
+     */
+    public final RawType next() {
+        final char next = read();
+        final Class<?> primitive = Signatures.primitiveOf(next);
+        if (null != primitive) {
+            return RawTypes.map(primitive);
+        }
+        switch (next) {
+        case '[':
+            return GenericArrayType.checked(next());
+        case 'L':
+            return classType();
+        case 'T':
+            throw new IllegalArgumentException(String.format(NOT_SUPPORTED, position - 1, signature));
+        default:
+            position -= 1;
+            throw unexpected("character '" + next + "'");
+        }
+    }
+
+    private RawType classType() {
+        final int start = position;
+        final StringBuilder name = new StringBuilder(signature.length() - position);
+        List<RawType> parameters = emptyList();
+        for (char next = read(); ';' != next; next = read()) {
+            if ('/' == next) {
+                name.append('.');
+            } else if ('.' == next) {
+                // inner class of a parameterized class: the parameters of the outer class are not represented,
+                // the inner class may have its own ...
+                name.append('$');
+                parameters = emptyList();
+            } else if ('<' == next) {
+                parameters = parameters();
+            } else {
+                name.append(next);
+            }
+        }
+        final Class<?> rawClass = classOf(name.toString(), start);
+        try {
+            return parameters.isEmpty() ? RawTypes.map(rawClass) : ParameterizedType.checked(rawClass, parameters);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage() + String.format(" in <%s>", signature), e);
+        }
+    }
+
+    private List<RawType> parameters() {
+        final List<RawType> result = new ArrayList<>(2);
+        for (char next = peek(); '>' != next; next = peek()) {
+            if ('*' == next) {
+                position += 1;
+                result.add(WildcardType.of(emptyList(), emptyList()));
+            } else if ('+' == next) {
+                position += 1;
+                result.add(WildcardType.of(singletonList(next()), emptyList()));
+            } else if ('-' == next) {
+                position += 1;
+                result.add(WildcardType.of(emptyList(), singletonList(next())));
+            } else {
+                result.add(next());
+            }
+        }
+        position += 1;
+        return result;
+    }
+
+    private Class<?> classOf(final String name, final int start) {
+        final Class<?> present = classes.get(name);
+        if (null != present) {
+            return present;
+        }
+        try {
+            final Class<?> result = Class.forName(name, false, loader);
+            classes.put(name, result);
+            return result;
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalArgumentException(String.format(UNKNOWN, name, start, signature), e);
+        }
+    }
+
+    private char peek() {
+        if (position < signature.length()) {
+            return signature.charAt(position);
+        }
+        throw unexpected("end");
+    }
+
+    private char read() {
+        final char result = peek();
+        position += 1;
+        return result;
+    }
+
+    private IllegalArgumentException unexpected(final String what) {
+        return new IllegalArgumentException(String.format(UNEXPECTED, what, position, signature));
+    }
+}
@@ -0,0 +1,52 @@
+package de.team33.libs.typing.v4;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Utilities concerning JVM signatures.
+ */
+final class Signatures {
+
+    private static final Class<?>[] PRIMITIVES = {
+            boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class,
+            void.class};
+    private static final String DESCRIPTORS = "ZBCSIJFDV";
+    private static final Map<Class<?>, Character> TO_DESCRIPTOR = new HashMap<>(PRIMITIVES.length * 2);
+    private static final Map<String, Class<?>> BY_NAME = new HashMap<>(PRIMITIVES.length * 2);
+
+    static {
+        for (int index = 0; index < PRIMITIVES.length; ++index) {
+            TO_DESCRIPTOR.put(PRIMITIVES[index], DESCRIPTORS.charAt(index));
+            BY_NAME.put(PRIMITIVES[index].getName(), PRIMITIVES[index]);
+        }
+    }
+
+    private Signatures() {
+    }
+
+    /**
+     * Returns the descriptor of a primitive class, e.g. {@code 'I'} for {@code int}.
+     */
+    static char descriptorOf(final Class<?> primitive) {
+        return TO_DESCRIPTOR.get(primitive);
+    }
+
+    /**
+     * Returns the primitive class of a given descriptor, e.g. {@code int} for {@code 'I'}, or {@code null} if the
+     * given character is not the descriptor of a primitive class.
+     */
+    static Class<?> primitiveOf(final char descriptor) {
+        final int index = DESCRIPTORS.indexOf(descriptor);
+        return (0 > index) ? null : PRIMITIVES[index];
+    }
+
+    /**
+     * Like {@link Class#forName(String, boolean, ClassLoader) Class.forName(name, false, loader)}, but also
+     * resolves the names of primitive classes, e.g. {@code "int"}.
+     */
+    static Class<?> classForName(final String name, final ClassLoader loader) throws ClassNotFoundException {
+        final Class<?> primitive = BY_NAME.get(name);
+        return (null == primitive) ? Class.forName(name, false, loader) : primitive;
+    }
+}
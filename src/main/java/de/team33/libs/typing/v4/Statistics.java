@@ -0,0 +1,282 @@
+package de.team33.libs.typing.v4;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Member;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>An {@link Instrumentation} that counts the observed operations.</p>
+ * <p>Use e.g. ...</p>
+ * <pre>
+ * final Statistics statistics = new Statistics();
+ * Instrumentation.install(statistics);
+ * statistics.registerMBean();
+ * ...
+ * final Statistics.Snapshot snapshot = statistics.snapshot();
+ * </pre>
+ */
+public final class Statistics implements Instrumentation, StatisticsMXBean {
+
+    /**
+     * The {@link ObjectName} used by {@link #registerMBean()}.
+     */
+    public static final String OBJECT_NAME = "de.team33.libs.typing.v4:type=Statistics";
+
+    private static final int HISTOGRAM_SIZE = Long.SIZE;
+
+    private final LongAdder[] mappings = adders(Kind.values().length);
+    private final LongAdder[] hits = adders(Cache.values().length);
+    private final LongAdder[] misses = adders(Cache.values().length);
+    private final LongAdder hierarchies = new LongAdder();
+    private final LongAdder hierarchyTypes = new LongAdder();
+    private final LongAccumulator maxHierarchyDepth = new LongAccumulator(Math::max, 0);
+    private final LongAdder resolutionNanos = new LongAdder();
+    private final LongAdder[] histogram = adders(HISTOGRAM_SIZE);
+
+    private static LongAdder[] adders(final int length) {
+        final LongAdder[] result = new LongAdder[length];
+        for (int index = 0; index < length; ++index) {
+            result[index] = new LongAdder();
+        }
+        return result;
+    }
+
+    private static long[] sums(final LongAdder[] adders) {
+        final long[] result = new long[adders.length];
+        for (int index = 0; index < adders.length; ++index) {
+            result[index] = adders[index].sum();
+        }
+        return result;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> toMap(final Class<E> keyClass, final long[] sums) {
+        final Map<E, Long> result = new EnumMap<>(keyClass);
+        for (final E key : keyClass.getEnumConstants()) {
+            result.put(key, sums[key.ordinal()]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Map<String, Long> toNamed(final Map<? extends Enum<?>, Long> map) {
+        final Map<String, Long> result = new LinkedHashMap<>();
+        map.forEach((key, value) -> result.put(key.name(), value));
+        return result;
+    }
+
+    @Override
+    public final void mapped(final Kind kind) {
+        mappings[kind.ordinal()].increment();
+    }
+
+    @Override
+    public final void cacheAccessed(final Cache cache, final boolean hit) {
+        (hit ? hits : misses)[cache.ordinal()].increment();
+    }
+
+    @Override
+    public final void hierarchyWalked(final RawType type, final int size, final int depth) {
+        hierarchies.increment();
+        hierarchyTypes.add(size);
+        maxHierarchyDepth.accumulate(depth);
+    }
+
+    @Override
+    public final void memberResolved(final RawType type, final Member member, final long nanos) {
+        resolutionNanos.add(nanos);
+        histogram[Math.min(HISTOGRAM_SIZE - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos))].increment();
+    }
+
+    /**
+     * Returns a copy of the current counters.
+     */
+    public final Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Registers this as MBean with the platform MBean server using the {@link #OBJECT_NAME}.
+     *
+     * @throws IllegalStateException if the registration fails, e.g. because another instance is already
+     *                               registered.
+     */
+    public final ObjectName registerMBean() {
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            return name;
+        } catch (final JMException e) {
+            throw new IllegalStateException("Could not register " + OBJECT_NAME + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public final Map<String, Long> getMappings() {
+        return toNamed(toMap(Kind.class, sums(mappings)));
+    }
+
+    @Override
+    public final Map<String, Long> getCacheHits() {
+        return toNamed(toMap(Cache.class, sums(hits)));
+    }
+
+    @Override
+    public final Map<String, Long> getCacheMisses() {
+        return toNamed(toMap(Cache.class, sums(misses)));
+    }
+
+    @Override
+    public final long getHierarchies() {
+        return hierarchies.sum();
+    }
+
+    @Override
+    public final long getHierarchyTypes() {
+        return hierarchyTypes.sum();
+    }
+
+    @Override
+    public final int getMaxHierarchyDepth() {
+        return (int) maxHierarchyDepth.get();
+    }
+
+    @Override
+    public final long getResolutions() {
+        long result = 0;
+        for (final LongAdder bucket : histogram) {
+            result += bucket.sum();
+        }
+        return result;
+    }
+
+    @Override
+    public final long getResolutionNanos() {
+        return resolutionNanos.sum();
+    }
+
+    @Override
+    public final long[] getResolutionHistogram() {
+        return sums(histogram);
+    }
+
+    @Override
+    public final synchronized void reset() {
+        Arrays.asList(mappings, hits, misses, histogram)
+              .forEach(adders -> Arrays.stream(adders).forEach(LongAdder::reset));
+        hierarchies.reset();
+        hierarchyTypes.reset();
+        maxHierarchyDepth.reset();
+        resolutionNanos.reset();
+    }
+
+    /**
+     * An immutable copy of the counters of {@link Statistics} at a certain point in time.
+     */
+    public static final class Snapshot {
+
+        private final Map<Kind, Long> mappings;
+        private final Map<Cache, Long> hits;
+        private final Map<Cache, Long> misses;
+        private final long hierarchies;
+        private final long hierarchyTypes;
+        private final int maxHierarchyDepth;
+        private final long resolutionNanos;
+        private final long[] histogram;
+
+        private Snapshot(final Statistics statistics) {
+            this.mappings = toMap(Kind.class, sums(statistics.mappings));
+            this.hits = toMap(Cache.class, sums(statistics.hits));
+            this.misses = toMap(Cache.class, sums(statistics.misses));
+            this.hierarchies = statistics.getHierarchies();
+            this.hierarchyTypes = statistics.getHierarchyTypes();
+            this.maxHierarchyDepth = statistics.getMaxHierarchyDepth();
+            this.resolutionNanos = statistics.getResolutionNanos();
+            this.histogram = statistics.getResolutionHistogram();
+        }
+
+        /**
+         * Returns the number of mapped types per kind.
+         */
+        public final Map<Kind, Long> getMappings() {
+            return mappings;
+        }
+
+        /**
+         * Returns the number of cache hits per cache.
+         */
+        public final Map<Cache, Long> getCacheHits() {
+            return hits;
+        }
+
+        /**
+         * Returns the number of cache misses per cache.
+         */
+        public final Map<Cache, Long> getCacheMisses() {
+            return misses;
+        }
+
+        /**
+         * Returns the number of walked hierarchies.
+         */
+        public final long getHierarchies() {
+            return hierarchies;
+        }
+
+        /**
+         * Returns the total number of types in all walked hierarchies.
+         */
+        public final long getHierarchyTypes() {
+            return hierarchyTypes;
+        }
+
+        /**
+         * Returns the maximum depth of all walked hierarchies.
+         */
+        public final int getMaxHierarchyDepth() {
+            return maxHierarchyDepth;
+        }
+
+        /**
+         * Returns the number of member resolutions.
+         */
+        public final long getResolutions() {
+            return Arrays.stream(histogram).sum();
+        }
+
+        /**
+         * Returns the total time spent on member resolutions in nanoseconds.
+         */
+        public final long getResolutionNanos() {
+            return resolutionNanos;
+        }
+
+        /**
+         * Returns the histogram of member resolution latencies.
+         *
+         * @see StatisticsMXBean#getResolutionHistogram()
+         */
+        public final long[] getResolutionHistogram() {
+            return histogram.clone();
+        }
+
+        @Override
+        public final String toString() {
+            return "Snapshot{mappings=" + mappings +
+                    ", hits=" + hits +
+                    ", misses=" + misses +
+                    ", hierarchies=" + hierarchies +
+                    ", hierarchyTypes=" + hierarchyTypes +
+                    ", maxHierarchyDepth=" + maxHierarchyDepth +
+                    ", resolutions=" + getResolutions() +
+                    ", resolutionNanos=" + resolutionNanos +
+                    "}";
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package de.team33.libs.typing.v4;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link Statistics}.
+ *
+ * @see Statistics#registerMBean()
+ */
+public interface StatisticsMXBean {
+
+    /**
+     * Returns the number of mapped types per {@linkplain Instrumentation.Kind kind}.
+     */
+    Map<String, Long> getMappings();
+
+    /**
+     * Returns the number of cache hits per {@linkplain Instrumentation.Cache cache}.
+     */
+    Map<String, Long> getCacheHits();
+
+    /**
+     * Returns the number of cache misses per {@linkplain Instrumentation.Cache cache}.
+     */
+    Map<String, Long> getCacheMisses();
+
+    /**
+     * Returns the number of walked hierarchies.
+     */
+    long getHierarchies();
+
+    /**
+     * Returns the total number of types in all walked hierarchies.
+     */
+    long getHierarchyTypes();
+
+    /**
+     * Returns the maximum depth of all walked hierarchies.
+     */
+    int getMaxHierarchyDepth();
+
+    /**
+     * Returns the number of member resolutions.
+     */
+    long getResolutions();
+
+    /**
+     * Returns the total time spent on member resolutions in nanoseconds.
+     */
+    long getResolutionNanos();
+
+    /**
+     * Returns the histogram of member resolution latencies. The element at index {@code i} counts the resolutions
+     * that took less than 2<sup>i</sup> but at least 2<sup>i-1</sup> nanoseconds.
+     */
+    long[] getResolutionHistogram();
+
+    /**
+     * Resets all the counters to zero.
+     */
+    void reset();
+}
@@ -1,7 +1,11 @@
 package de.team33.libs.typing.v4;
 
-import java.lang.reflect.ParameterizedType;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 
 /**
@@ -59,21 +63,46 @@ import java.util.List;
  *
  * @see #Type()
  * @see #of(Class)
+ * @see #parameterized(Class, RawType...)
+ * @see #arrayOf(Type)
+ * @see #arrayOf(RawType)
  */
+@SuppressWarnings("serial") // see RawType.writeReplace()
 public abstract class Type<T> extends RawType {
 
-    private final RawType backing;
+    private static final String NOT_DEFINITE = "%s does not define a definite type but %s";
+    private static final String NOT_RESOLVED = "%s is not a definite type";
+    private static final String PRIMITIVE_COMPONENT = "%s is primitive, use an array class instead";
+    private static final ClassValue<BasicType> BACKINGS = new ClassValue<BasicType>() {
+        @Override
+        protected BasicType computeValue(final Class<?> typeClass) {
+            return newBacking(typeClass);
+        }
+    };
+
+    private final transient BasicType backing;
 
     /**
      * Initializes a {@link Type} based on its well-defined derivative.
      */
     protected Type() {
-        final Class<?> thisClass = getClass();
-        final ParameterizedType genericSuperclass = (ParameterizedType) thisClass.getGenericSuperclass();
-        this.backing = RawTypes.map(genericSuperclass.getActualTypeArguments()[0]);
+        final Class<?> typeClass = getClass();
+        this.backing = RawTypes.isCacheable(typeClass) ? BACKINGS.get(typeClass) : newBacking(typeClass);
+    }
+
+    private static BasicType newBacking(final Class<?> typeClass) {
+        final Object event = Events.beginTypeConstruction();
+        final java.lang.reflect.ParameterizedType genericSuperclass =
+                (java.lang.reflect.ParameterizedType) typeClass.getGenericSuperclass();
+        final BasicType result = RawTypes.map(genericSuperclass.getActualTypeArguments()[0]).getBacking();
+        Events.commit(event, result, null);
+        if (result.isResolved()) {
+            return result;
+        }
+        throw new IllegalArgumentException(String.format(NOT_DEFINITE, typeClass, result));
     }
 
-    private Type(final RawType backing) {
+    private Type(final BasicType backing) {
         this.backing = backing;
     }
 
@@ -83,7 +112,94 @@ public abstract class Type<T> extends RawType {
      * {@linkplain #getFormalParameters() formal parameters}.</p>
      */
     public static <T> Type<T> of(final Class<T> simpleClass) {
-        return new Type<T>(RawTypes.map(simpleClass)) {
+        return canonical(RawTypes.map(simpleClass).getBacking());
+    }
+
+    /**
+     * <p>Resolves the given {@link Class}es or {@link java.lang.reflect.Type}s in parallel using a given
+     * {@link Executor}, including their super types and the types of their members, so that later requests for
+     * these types are served from the caches.</p>
+     * <p>The resulting future completes when all the given types are processed, even if some of them fail.
+     * The result holds the resolved types, so they remain cached at least as long as the result is
+     * referenced.</p>
+     */
+    public static CompletableFuture<Prewarmed> prewarm(final Collection<? extends java.lang.reflect.Type> types,
+                                                       final Executor executor) {
+        return Prewarmed.start(types, executor);
+    }
+
+    /**
+     * Like {@link #prewarm(Collection, Executor)} using the {@linkplain ForkJoinPool#commonPool() common pool}.
+     */
+    public static CompletableFuture<Prewarmed> prewarm(final Collection<? extends java.lang.reflect.Type> types) {
+        return prewarm(types, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>Returns a {@link Type} based on a generic {@link Class} and its actual parameters without the need of a
+     * derivative, e.g.</p>
+     * <pre>
+     * final Type&lt;Map&lt;String, List&lt;String&gt;&gt;&gt; mapType =
+     *         Type.parameterized(Map.class, Type.of(String.class), listOfStringType);
+     * </pre>
+     * <p>The result is the same as of an equivalent {@linkplain #Type() derivative}.</p>
+     *
+     * @throws IllegalArgumentException if the actual parameters do not match the
+     *                                  {@linkplain #getFormalParameters() formal parameters} of the given class
+     *                                  or would not result in a definite type.
+     */
+    public static <T> Type<T> parameterized(final Class<? super T> rawClass, final RawType... actualParameters) {
+        return definite(ParameterizedType.checked(rawClass, Arrays.asList(actualParameters)));
+    }
+
+    /**
+     * <p>Returns a {@link Type} representing an array of a given component type without the need of a
+     * derivative, e.g.</p>
+     * <pre>
+     * final Type&lt;List&lt;String&gt;[]&gt; arrayType =
+     *         Type.arrayOf(listOfStringType);
+     * </pre>
+     * <p>Arrays of primitive types are not supported since e.g. {@code Type.of(int.class)} is a
+     * {@code Type<Integer>}, use e.g. {@code Type.of(int[].class)} instead.</p>
+     *
+     * @throws IllegalArgumentException if the component type is primitive.
+     */
+    public static <E> Type<E[]> arrayOf(final Type<E> componentType) {
+        if (componentType.getPrimeClass().isPrimitive()) {
+            throw new IllegalArgumentException(String.format(PRIMITIVE_COMPONENT, componentType));
+        }
+        return definite(GenericArrayType.checked(componentType));
+    }
+
+    /**
+     * <p>Returns a {@link Type} representing an array of a given component type that is not statically typed,
+     * e.g. the type of a member:</p>
+     * <pre>
+     * final Type&lt;?&gt; arrayType =
+     *         Type.arrayOf(type.typeOf(field));
+     * </pre>
+     * <p>Unlike {@link #arrayOf(Type)}, this also supports primitive component types.</p>
+     *
+     * @throws IllegalArgumentException if the component type is not suitable for a definite array type.
+     */
+    public static Type<?> arrayOf(final RawType componentType) {
+        return definite(GenericArrayType.checked(componentType));
+    }
+
+    private static <T> Type<T> definite(final BasicType backing) {
+        if (backing.isResolved()) {
+            return canonical(backing);
+        }
+        throw new IllegalArgumentException(String.format(NOT_RESOLVED, backing));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Type<T> canonical(final BasicType backing) {
+        return (Type<T>) backing.getType();
+    }
+
+    static Type<?> wrap(final BasicType backing) {
+        return new Type<Object>(backing) {
         };
     }
 
@@ -103,12 +219,22 @@ public abstract class Type<T> extends RawType {
     }
 
     @Override
-    public final String toString() {
-        return backing.toString();
+    public final List<RawType> getUpperBounds() {
+        return backing.getUpperBounds();
+    }
+
+    @Override
+    public final List<RawType> getLowerBounds() {
+        return backing.getLowerBounds();
     }
 
     @Override
     final Core getCore() {
         return backing.getCore();
     }
+
+    @Override
+    final BasicType getBacking() {
+        return backing;
+    }
 }
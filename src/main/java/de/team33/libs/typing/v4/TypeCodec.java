@@ -0,0 +1,246 @@
+package de.team33.libs.typing.v4;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A compact binary encoding of {@link RawType}s.</p>
+ * <p>The structure of a type is encoded as variable-length integers. Class names are written once per stream,
+ * further occurrences refer to them by index. So an {@link Encoder} and the corresponding {@link Decoder} should
+ * be used for all the types of a stream.</p>
+ * <p>Unbound {@linkplain RawType#isVariable() type variables} can not be encoded.</p>
+ */
+public final class TypeCodec {
+
+    private static final int CLASS = 0;
+    private static final int PARAMETERIZED = 1;
+    private static final int ARRAY = 2;
+    private static final int WILDCARD = 3;
+    private static final String NOT_SUPPORTED = "<%s> can not be encoded";
+    private static final String ILLEGAL_KIND = "Illegal kind of type: %d";
+    private static final String ILLEGAL_CLASS = "Illegal class reference: %d";
+    private static final String ILLEGAL_LENGTH = "Illegal length: %d";
+    // the maximum length of a class name in a class file ...
+    private static final int MAX_NAME_LENGTH = 0xFFFF;
+    private static final int INITIAL_LIST_CAPACITY = 4;
+    // the maximum nesting depth of a type, same as the maximum number of array dimensions in a class file ...
+    private static final int MAX_DEPTH = 255;
+    private static final String TOO_DEEP = "Type nested deeper than %d levels";
+
+    private TypeCodec() {
+    }
+
+    /**
+     * Encodes a single type.
+     *
+     * @throws IllegalArgumentException if the type can not be encoded.
+     */
+    public static byte[] encode(final RawType type) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        try {
+            new Encoder(out).write(type);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e.getMessage(), e); // not expected for a ByteArrayOutputStream
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a single type as {@linkplain #encode(RawType) encoded}, loading classes by a given
+     * {@link ClassLoader}.
+     */
+    public static RawType decode(final byte[] bytes, final ClassLoader loader)
+            throws IOException, ClassNotFoundException {
+        return new Decoder(new ByteArrayInputStream(bytes), loader).read();
+    }
+
+    /**
+     * Writes {@link RawType}s to an underlying {@link OutputStream}.
+     */
+    public static final class Encoder {
+
+        private final OutputStream out;
+        private final Map<String, Integer> classIndices = new HashMap<>();
+
+        public Encoder(final OutputStream out) {
+            this.out = out;
+        }
+
+        /**
+         * Writes a type.
+         *
+         * @throws IllegalArgumentException if the type can not be encoded.
+         */
+        public final void write(final RawType type) throws IOException {
+            final BasicType backing = type.getBacking();
+            if ((backing instanceof PlainClassType) || (backing instanceof PlainArrayType)) {
+                writeInt(CLASS);
+                writeClass(backing.getPrimeClass());
+            } else if (backing instanceof ParameterizedType) {
+                writeInt(PARAMETERIZED);
+                writeClass(backing.getPrimeClass());
+                writeAll(backing.getActualParameters());
+            } else if (backing instanceof GenericArrayType) {
+                writeInt(ARRAY);
+                write(backing.getActualParameters().get(0));
+            } else if (backing instanceof WildcardType) {
+                writeInt(WILDCARD);
+                writeAll(backing.getUpperBounds());
+                writeAll(backing.getLowerBounds());
+            } else {
+                throw new IllegalArgumentException(String.format(NOT_SUPPORTED, type));
+            }
+        }
+
+        private void writeAll(final List<RawType> types) throws IOException {
+            writeInt(types.size());
+            for (final RawType type : types) {
+                write(type);
+            }
+        }
+
+        private void writeClass(final Class<?> type) throws IOException {
+            final String name = type.getName();
+            final Integer index = classIndices.get(name);
+            if (null == index) {
+                classIndices.put(name, classIndices.size());
+                final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                writeInt(0);
+                writeInt(bytes.length);
+                out.write(bytes);
+            } else {
+                writeInt(index + 1);
+            }
+        }
+
+        private void writeInt(final int value) throws IOException {
+            int rest = value;
+            while (0 != (rest & ~0x7F)) {
+                out.write((rest & 0x7F) | 0x80);
+                rest >>>= 7;
+            }
+            out.write(rest);
+        }
+    }
+
+    /**
+     * Reads {@link RawType}s from an underlying {@link InputStream} as written by an {@link Encoder}.
+     * The results are the canonical instances.
+     */
+    public static final class Decoder {
+
+        private final InputStream in;
+        private final ClassLoader loader;
+        private final List<Class<?>> classes = new ArrayList<>();
+        private int depth = 0;
+
+        public Decoder(final InputStream in, final ClassLoader loader) {
+            this.in = in;
+            this.loader = loader;
+        }
+
+        /**
+         * Reads a type.
+         *
+         * @throws IOException            if the stream is corrupted or can not be read.
+         * @throws ClassNotFoundException if a class of the type can not be found.
+         */
+        public final RawType read() throws IOException, ClassNotFoundException {
+            if (MAX_DEPTH <= depth) {
+                throw new StreamCorruptedException(String.format(TOO_DEEP, MAX_DEPTH));
+            }
+            depth += 1;
+            try {
+                return readType();
+            } finally {
+                depth -= 1;
+            }
+        }
+
+        private RawType readType() throws IOException, ClassNotFoundException {
+            final int kind = readInt();
+            try {
+                switch (kind) {
+                case CLASS:
+                    return RawTypes.map(readClass());
+                case PARAMETERIZED:
+                    final Class<?> rawClass = readClass();
+                    return ParameterizedType.checked(rawClass, readAll());
+                case ARRAY:
+                    return GenericArrayType.checked(read());
+                case WILDCARD:
+                    final List<RawType> upper = readAll();
+                    return WildcardType.of(upper, readAll());
+                default:
+                    throw new StreamCorruptedException(String.format(ILLEGAL_KIND, kind));
+                }
+            } catch (final IllegalArgumentException e) {
+                throw new StreamCorruptedException(e.getMessage());
+            }
+        }
+
+        private List<RawType> readAll() throws IOException, ClassNotFoundException {
+            final int size = readInt();
+            if (0 > size) {
+                throw new StreamCorruptedException(String.format(ILLEGAL_LENGTH, size));
+            }
+            // size is not yet trustworthy, so the list grows as the elements are actually read ...
+            final List<RawType> result = new ArrayList<>(Math.min(size, INITIAL_LIST_CAPACITY));
+            for (int index = 0; index < size; ++index) {
+                result.add(read());
+            }
+            return result;
+        }
+
+        private Class<?> readClass() throws IOException, ClassNotFoundException {
+            final int reference = readInt();
+            if (0 == reference) {
+                final int length = readInt();
+                if ((0 > length) || (MAX_NAME_LENGTH < length)) {
+                    throw new StreamCorruptedException(String.format(ILLEGAL_LENGTH, length));
+                }
+                final byte[] bytes = new byte[length];
+                for (int offset = 0; offset < bytes.length; ) {
+                    final int count = in.read(bytes, offset, bytes.length - offset);
+                    if (0 > count) {
+                        throw new EOFException();
+                    }
+                    offset += count;
+                }
+                final Class<?> result = Signatures.classForName(new String(bytes, StandardCharsets.UTF_8), loader);
+                classes.add(result);
+                return result;
+            } else if ((0 < reference) && (reference <= classes.size())) {
+                return classes.get(reference - 1);
+            } else {
+                throw new StreamCorruptedException(String.format(ILLEGAL_CLASS, reference));
+            }
+        }
+
+        private int readInt() throws IOException {
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                final int next = in.read();
+                if (0 > next) {
+                    throw new EOFException();
+                }
+                result |= (next & 0x7F) << shift;
+                if (0 == (next & 0x80)) {
+                    return result;
+                }
+            }
+            throw new StreamCorruptedException("Malformed variable-length integer");
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package de.team33.libs.typing.v4;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * <p>Parses textual type descriptors into {@link RawType}s, e.g.</p>
+ * <pre>
+ * java.util.Map&lt;java.lang.String, java.util.List&lt;? extends java.lang.Number&gt;&gt;[]
+ * </pre>
+ * <p>Fully qualified class names are supported as well as simple class names, as far as they can be found in
+ * a list of given packages. So the {@link RawType#toString() string representation} of a {@link RawType} can be
+ * parsed as long as the involved classes can be found that way. Nested classes may be denoted using '.' or '$'.
+ * Type variables can not be parsed.</p>
+ * <p>The results of recently parsed descriptors are kept in a bounded cache.</p>
+ * <p>Instances are thread safe.</p>
+ */
+public final class TypeParser {
+
+    /**
+     * The default number of parsed descriptors that are kept in the cache.
+     */
+    public static final int DEFAULT_CACHE_LIMIT = 256;
+
+    private static final String JAVA_LANG = "java.lang";
+    private static final Map<String, Class<?>> PRIMITIVES = primitives(boolean.class, byte.class, short.class,
+                                                                       int.class, long.class, float.class,
+                                                                       double.class, char.class, void.class);
+
+    private final Function<? super String, ? extends Class<?>> resolver;
+    private final Map<String, RawType> cache;
+
+    /**
+     * Initializes a new instance.
+     *
+     * @param resolver   A function that resolves a class name (as it occurs in a descriptor) to a class or returns
+     *                   {@code null} if the name is unknown.
+     * @param cacheLimit The maximum number of parsed descriptors to be kept in the cache.
+     */
+    public TypeParser(final Function<? super String, ? extends Class<?>> resolver, final int cacheLimit) {
+        this.resolver = resolver;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, RawType>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, RawType> eldest) {
+                return size() > cacheLimit;
+            }
+        });
+    }
+
+    /**
+     * Returns a new instance that resolves class names using a given {@link ClassLoader}. Beside fully qualified
+     * class names and primitive types, simple names of classes in {@code java.lang} and in the given packages are
+     * resolved. Nested classes may be made available by their simple names by specifying their enclosing classes
+     * as packages.
+     */
+    public static TypeParser using(final ClassLoader loader, final String... packages) {
+        final List<String> prefixes = new ArrayList<>(packages.length + 1);
+        prefixes.add(JAVA_LANG);
+        prefixes.addAll(Arrays.asList(packages));
+        return new TypeParser(name -> resolve(loader, prefixes, name), DEFAULT_CACHE_LIMIT);
+    }
+
+    private static Map<String, Class<?>> primitives(final Class<?>... classes) {
+        final Map<String, Class<?>> result = new HashMap<>(classes.length * 2);
+        for (final Class<?> primitive : classes) {
+            result.put(primitive.getName(), primitive);
+        }
+        return result;
+    }
+
+    private static Class<?> resolve(final ClassLoader loader, final List<String> packages, final String name) {
+        final Class<?> primitive = PRIMITIVES.get(name);
+        if (null != primitive) {
+            return primitive;
+        }
+        if (0 <= name.indexOf('.')) {
+            final Class<?> result = load(loader, name);
+            if (null != result) {
+                return result;
+            }
+        }
+        for (final String prefix : packages) {
+            final Class<?> result = load(loader, prefix + '.' + name);
+            if (null != result) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> load(final ClassLoader loader, final String name) {
+        final Class<?> result = forName(loader, name);
+        if (null != result) {
+            return result;
+        }
+        // maybe a nested class, denoted by '.' instead of '$', so look for the longest prefix that denotes its
+        // outermost class. Package names are never subject to a substitution ...
+        for (int dot = name.lastIndexOf('.'); 0 < dot; dot = name.lastIndexOf('.', dot - 1)) {
+            final Class<?> outer = forName(loader, name.substring(0, dot));
+            if (null != outer) {
+                return forName(loader, outer.getName() + '$' + name.substring(dot + 1).replace('.', '$'));
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> forName(final ClassLoader loader, final String name) {
+        try {
+            return Class.forName(name, false, loader);
+        } catch (final ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses a given type descriptor.
+     *
+     * @throws IllegalArgumentException if the descriptor is malformed or denotes unknown classes.
+     */
+    public final RawType parse(final CharSequence descriptor) throws IllegalArgumentException {
+        final String key = descriptor.toString();
+        final RawType cached = cache.get(key);
+        final Instrumentation instrumentation = Instruments.current;
+        if (null != instrumentation) {
+            instrumentation.cacheAccessed(Instrumentation.Cache.PARSED, null != cached);
+        }
+        if (null != cached) {
+            return cached;
+        }
+        final RawType result = new Parsing(key).parse();
+        cache.put(key, result);
+        return result;
+    }
+
+    private final class Parsing {
+
+        private final String text;
+        private int pos = 0;
+
+        private Parsing(final String text) {
+            this.text = text;
+        }
+
+        private RawType parse() {
+            final RawType result = type();
+            skipSpace();
+            if (pos < text.length()) {
+                throw fail("Unexpected character '%s'", text.charAt(pos));
+            }
+            return result;
+        }
+
+        private RawType type() {
+            final String name = name();
+            final Class<?> rawClass = resolver.apply(name);
+            if (null == rawClass) {
+                throw fail("Unknown class <%s>", name);
+            }
+            RawType result = accept('<') ? ParameterizedType.checked(rawClass, parameters())
+                                         : RawTypes.map(rawClass);
+            while (accept('[')) {
+                expect(']');
+                result = GenericArrayType.checked(result);
+            }
+            return result;
+        }
+
+        private List<RawType> parameters() {
+            final List<RawType> result = new ArrayList<>(2);
+            do {
+                result.add(accept('?') ? wildcard() : type());
+            } while (accept(','));
+            expect('>');
+            return result;
+        }
+
+        private RawType wildcard() {
+            skipSpace();
+            final int start = pos;
+            final String keyword = isNameStart() ? name() : "";
+            if ("extends".equals(keyword)) {
+                return WildcardType.of(bounds(), emptyList());
+            } else if ("super".equals(keyword)) {
+                return WildcardType.of(emptyList(), bounds());
+            } else {
+                pos = start;
+                return WildcardType.of(emptyList(), emptyList());
+            }
+        }
+
+        private List<RawType> bounds() {
+            final RawType first = type();
+            if (!accept('&')) {
+                return singletonList(first);
+            }
+            final List<RawType> result = new ArrayList<>(2);
+            result.add(first);
+            do {
+                result.add(type());
+            } while (accept('&'));
+            return unmodifiableList(result);
+        }
+
+        private String name() {
+            skipSpace();
+            if (!isNameStart()) {
+                throw (pos < text.length()) ? fail("Unexpected character '%s'", text.charAt(pos))
+                                            : fail("Unexpected end");
+            }
+            final int start = pos++;
+            while ((pos < text.length()) && isNamePart(text.charAt(pos))) {
+                pos += 1;
+            }
+            return text.substring(start, pos);
+        }
+
+        private boolean isNameStart() {
+            return (pos < text.length()) && Character.isJavaIdentifierStart(text.charAt(pos));
+        }
+
+        private boolean isNamePart(final char c) {
+            return ('.' == c) || Character.isJavaIdentifierPart(c);
+        }
+
+        private boolean accept(final char expected) {
+            skipSpace();
+            if ((pos < text.length()) && (expected == text.charAt(pos))) {
+                pos += 1;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(final char expected) {
+            if (!accept(expected)) {
+                throw fail("Expected '%s'", expected);
+            }
+        }
+
+        private void skipSpace() {
+            while ((pos < text.length()) && Character.isWhitespace(text.charAt(pos))) {
+                pos += 1;
+            }
+        }
+
+        private IllegalArgumentException fail(final String format, final Object... args) {
+            return new IllegalArgumentException(String.format(format, args) +
+                                                String.format(" at position %d in <%s>", pos, text));
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package de.team33.libs.typing.v4;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>A snapshot of resolved {@link RawType}s in a compact binary file that can be
+ * {@linkplain #map(Path, ClassLoader) mapped into memory} e.g. at startup.</p>
+ * <p>The types of a mapped snapshot are reconstructed lazily on first access, without mapping any generic
+ * {@link java.lang.reflect.Type}s. On reconstruction, each involved class is loaded by the given
+ * {@link ClassLoader} and, for parameterized types, the number of its formal parameters is validated against the
+ * snapshot. This is the only generic reflection involved.</p>
+ * <p>Unbound {@linkplain RawType#isVariable() type variables} can not be part of a snapshot. To include the
+ * types of members, {@linkplain #write(Collection, Path) write} them along with their owners, e.g. the values of
+ * {@link Members#getFieldTypes()}.</p>
+ * <p>A snapshot covers the types themselves, not the associations between a type and its members. Resolving a
+ * member of a loaded type, e.g. via {@link RawType#typeOf(java.lang.reflect.Field)} or
+ * {@link RawType#getMembers()}, still requires generic reflection once per member and owner, though the result
+ * is the canonical instance of a type written along.</p>
+ * <p>Instances are thread safe.</p>
+ */
+public final class TypeSnapshot {
+
+    private static final int MAGIC = 0x54333354;
+    private static final int VERSION = 1;
+    private static final byte CLASS = 0;
+    private static final byte PARAMETERIZED = 1;
+    private static final byte ARRAY = 2;
+    private static final byte WILDCARD = 3;
+    private static final String NOT_A_SNAPSHOT = "<%s> is not a type snapshot (version %d)";
+    private static final String NOT_SUPPORTED = "<%s> can not be part of a snapshot";
+    private static final String NOT_MATCHING = "Entry #%d of the snapshot <%s> does not match the loaded classes";
+    private static final String CORRUPTED = "The snapshot <%s> is truncated or corrupted (%s)";
+
+    private final Path path;
+    private final ClassLoader loader;
+    private final ByteBuffer buffer;
+    private final String[] classNames;
+    private final int offsets;
+    private final int entries;
+    private final int[] roots;
+    private final AtomicReferenceArray<Class<?>> classes;
+    private final AtomicReferenceArray<RawType> types;
+
+    private TypeSnapshot(final Path path, final ClassLoader loader, final ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.loader = loader;
+        this.buffer = buffer;
+        if ((buffer.limit() < 8) || (MAGIC != buffer.getInt(0)) || (VERSION != buffer.getInt(4))) {
+            throw new IOException(String.format(NOT_A_SNAPSHOT, path, VERSION));
+        }
+        int position = 8;
+        // each class name takes at least 4 bytes (its length) ...
+        this.classNames = new String[count(position, 4, "class names")];
+        position += 4;
+        for (int index = 0; index < classNames.length; ++index) {
+            final byte[] bytes = new byte[count(position, 1, "class name")];
+            position += 4;
+            for (int byteIndex = 0; byteIndex < bytes.length; ++byteIndex) {
+                bytes[byteIndex] = buffer.get(position++);
+            }
+            classNames[index] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        // each entry takes at least 4 bytes (its offset) plus 5 bytes (its kind and at least one int) ...
+        final int entryCount = count(position, 9, "entries");
+        this.offsets = position + 4;
+        position = offsets + (4 * entryCount);
+        this.roots = new int[count(position, 4, "roots")];
+        position += 4;
+        for (int index = 0; index < roots.length; ++index, position += 4) {
+            roots[index] = buffer.getInt(position);
+            if ((0 > roots[index]) || (roots[index] >= entryCount)) {
+                throw corrupted("root #" + index);
+            }
+        }
+        this.entries = position;
+        for (int index = 0; index < entryCount; ++index) {
+            final int offset = buffer.getInt(offsets + (4 * index));
+            if ((0 > offset) || (offset > (buffer.limit() - entries - 5))) {
+                throw corrupted("offset of entry #" + index);
+            }
+        }
+        this.classes = new AtomicReferenceArray<>(classNames.length);
+        this.types = new AtomicReferenceArray<>(entryCount);
+    }
+
+    /**
+     * Reads a count at a given position and checks that the remaining buffer can hold that many items of a given
+     * minimum size.
+     */
+    private int count(final int position, final int itemSize, final String items) throws IOException {
+        if ((buffer.limit() - 4) < position) {
+            throw corrupted(items);
+        }
+        final int result = buffer.getInt(position);
+        if ((0 > result) || (result > ((buffer.limit() - position - 4) / itemSize))) {
+            throw corrupted(items);
+        }
+        return result;
+    }
+
+    private IOException corrupted(final String what) {
+        return new IOException(String.format(CORRUPTED, path, what));
+    }
+
+    /**
+     * Writes a snapshot of the given types to a file at the given path, replacing an existing one.
+     *
+     * @throws IllegalArgumentException if a type can not be part of a snapshot, e.g. an unbound type variable.
+     */
+    public static void write(final Collection<? extends RawType> types, final Path path) throws IOException {
+        final Writer writer = new Writer();
+        final int[] roots = new int[types.size()];
+        int index = 0;
+        for (final RawType type : types) {
+            roots[index++] = writer.add(type.getBacking());
+        }
+        try (final OutputStream out = Files.newOutputStream(path)) {
+            writer.writeTo(new DataOutputStream(out), roots);
+        }
+    }
+
+    /**
+     * Maps a snapshot file into memory. The types are reconstructed lazily using a given {@link ClassLoader}.
+     *
+     * @throws IOException if the file can not be read or is not a snapshot.
+     */
+    public static TypeSnapshot map(final Path path, final ClassLoader loader) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new TypeSnapshot(path, loader, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns the number of types that have been explicitly written to this snapshot.
+     */
+    public final int size() {
+        return roots.length;
+    }
+
+    /**
+     * Returns the type at a given index, reconstructing it on first access.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws IllegalStateException     if the type does not match the classes loaded by the underlying
+     *                                   {@link ClassLoader}.
+     */
+    public final RawType get(final int index) {
+        return entry(roots[index]);
+    }
+
+    /**
+     * Returns a view of all the types that have been explicitly written to this snapshot, in the order given on
+     * writing. The types are reconstructed on first access.
+     *
+     * @see #get(int)
+     */
+    public final List<RawType> getTypes() {
+        return new AbstractList<RawType>() {
+            @Override
+            public RawType get(final int index) {
+                return TypeSnapshot.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return roots.length;
+            }
+        };
+    }
+
+    private RawType entry(final int index) {
+        final RawType present = types.get(index);
+        if (null != present) {
+            return present;
+        }
+        final RawType result = newEntry(index);
+        types.compareAndSet(index, null, result);
+        return result;
+    }
+
+    private RawType newEntry(final int index) {
+        int position = entries + buffer.getInt(offsets + (4 * index));
+        final byte kind = buffer.get(position++);
+        try {
+            switch (kind) {
+            case CLASS:
+                return RawTypes.map(classOf(buffer.getInt(position)));
+            case PARAMETERIZED:
+                final Class<?> rawClass = classOf(buffer.getInt(position));
+                return ParameterizedType.checked(rawClass, entries(index, position + 4));
+            case ARRAY:
+                return GenericArrayType.checked(reference(index, buffer.getInt(position)));
+            case WILDCARD:
+                final List<RawType> upper = entries(index, position);
+                return WildcardType.of(upper, entries(index, position + 4 + (4 * upper.size())));
+            default:
+                throw new IllegalStateException(String.format(NOT_MATCHING, index, path));
+            }
+        } catch (final ClassNotFoundException | LinkageError | IllegalArgumentException
+                | IndexOutOfBoundsException e) {
+            throw new IllegalStateException(String.format(NOT_MATCHING, index, path), e);
+        }
+    }
+
+    /**
+     * Returns the entry referenced by another one. Entries are written after the entries they refer to, so a
+     * reference to the same or a later entry indicates a corrupted snapshot (and would lead to an endless recursion).
+     */
+    private RawType reference(final int referrer, final int index) {
+        if ((0 > index) || (index >= referrer)) {
+            throw new IndexOutOfBoundsException("Illegal reference from entry #" + referrer + " to #" + index);
+        }
+        return entry(index);
+    }
+
+    private List<RawType> entries(final int referrer, final int position) {
+        final int size = buffer.getInt(position);
+        if ((0 > size) || (size > ((buffer.limit() - position - 4) / 4))) {
+            throw new IndexOutOfBoundsException("Illegal number of references from entry #" + referrer + ": " + size);
+        }
+        final List<RawType> result = new ArrayList<>(size);
+        for (int index = 0; index < size; ++index) {
+            result.add(reference(referrer, buffer.getInt(position + 4 + (4 * index))));
+        }
+        return result;
+    }
+
+    private Class<?> classOf(final int index) throws ClassNotFoundException {
+        final Class<?> present = classes.get(index);
+        if (null != present) {
+            return present;
+        }
+        final Class<?> result = Signatures.classForName(classNames[index], loader);
+        classes.lazySet(index, result);
+        return result;
+    }
+
+    private static final class Writer {
+
+        private final Map<String, Integer> classIndices = new HashMap<>();
+        private final List<String> classNames = new ArrayList<>();
+        private final Map<BasicType, Integer> typeIndices = new HashMap<>();
+        private final List<int[]> typeEntries = new ArrayList<>();
+
+        private int add(final BasicType type) {
+            final Integer present = typeIndices.get(type);
+            return (null == present) ? addNew(type) : present;
+        }
+
+        private int addNew(final BasicType type) {
+            final int[] entry;
+            if ((type instanceof PlainClassType) || (type instanceof PlainArrayType)) {
+                entry = new int[]{CLASS, classIndex(type.getPrimeClass())};
+            } else if (type instanceof ParameterizedType) {
+                entry = concat(new int[]{PARAMETERIZED, classIndex(type.getPrimeClass())},
+                               indices(type.getActualParameters()));
+            } else if (type instanceof GenericArrayType) {
+                entry = new int[]{ARRAY, add(type.getActualParameters().get(0).getBacking())};
+            } else if (type instanceof WildcardType) {
+                entry = concat(new int[]{WILDCARD}, indices(type.getUpperBounds()), indices(type.getLowerBounds()));
+            } else {
+                throw new IllegalArgumentException(String.format(NOT_SUPPORTED, type));
+            }
+            final int result = typeEntries.size();
+            typeEntries.add(entry);
+            typeIndices.put(type, result);
+            return result;
+        }
+
+        private int[] indices(final List<RawType> types) {
+            final int[] result = new int[types.size() + 1];
+            result[0] = types.size();
+            for (int index = 0; index < types.size(); ++index) {
+                result[index + 1] = add(types.get(index).getBacking());
+            }
+            return result;
+        }
+
+        private static int[] concat(final int[]... parts) {
+            int length = 0;
+            for (final int[] part : parts) {
+                length += part.length;
+            }
+            final int[] result = new int[length];
+            int position = 0;
+            for (final int[] part : parts) {
+                System.arraycopy(part, 0, result, position, part.length);
+                position += part.length;
+            }
+            return result;
+        }
+
+        private int classIndex(final Class<?> type) {
+            return classIndices.computeIfAbsent(type.getName(), name -> {
+                classNames.add(name);
+                return classNames.size() - 1;
+            });
+        }
+
+        private void writeTo(final DataOutputStream out, final int[] roots) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(classNames.size());
+            for (final String name : classNames) {
+                final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeInt(typeEntries.size());
+            int offset = 0;
+            for (final int[] entry : typeEntries) {
+                out.writeInt(offset);
+                offset += 1 + (4 * (entry.length - 1));
+            }
+            out.writeInt(roots.length);
+            for (final int root : roots) {
+                out.writeInt(root);
+            }
+            for (final int[] entry : typeEntries) {
+                out.writeByte(entry[0]);
+                for (int index = 1; index < entry.length; ++index) {
+                    out.writeInt(entry[index]);
+                }
+            }
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package de.team33.libs.typing.v4;
+
+import java.lang.reflect.TypeVariable;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+@SuppressWarnings("serial") // see RawType.writeReplace()
+class VariableType extends BasicType {
+
+    private final TypeVariable<?> variable;
+    private final transient Lazy<List<RawType>> bounds = new Lazy<>(this::newBounds);
+
+    private VariableType(final Core core) {
+        super(core);
+        this.variable = (TypeVariable<?>) core.qualifier;
+    }
+
+    static BasicType of(final TypeVariable<?> variable) {
+        return Interner.intern(new Core(erasure(variable), emptyList(), variable), VariableType::new);
+    }
+
+    private static Class<?> erasure(final java.lang.reflect.Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        } else if (type instanceof java.lang.reflect.ParameterizedType) {
+            return (Class<?>) ((java.lang.reflect.ParameterizedType) type).getRawType();
+        } else if (type instanceof TypeVariable) {
+            return erasure(((TypeVariable<?>) type).getBounds()[0]);
+        } else {
+            return Object.class;
+        }
+    }
+
+    // The bounds may refer to the variable itself (e.g. <E extends Comparable<E>>),
+    // so they are mapped lazily and independent of any context ...
+    private List<RawType> newBounds() {
+        return unmodifiableList(Stream.of(variable.getBounds())
+                                      .map(RawTypes::map)
+                                      .collect(Collectors.toList()));
+    }
+
+    @Override
+    public final List<String> getFormalParameters() {
+        return emptyList();
+    }
+
+    @Override
+    public final List<RawType> getUpperBounds() {
+        return bounds.get();
+    }
+
+    @Override
+    final boolean isResolved() {
+        return false;
+    }
+
+    @Override
+    final BasicType substitute(final Context context) {
+        final RawType actual = context.getActual(variable.getName());
+        return (null == actual) ? this : actual.getBacking();
+    }
+
+    @Override
+    final void renderTo(final StringBuilder target, final Notation notation) {
+        if (Notation.SIGNATURE == notation) {
+            target.append('T').append(variable.getName()).append(';');
+        } else {
+            target.append(variable.getName());
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package de.team33.libs.typing.v4;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
+
+@SuppressWarnings("serial") // see RawType.writeReplace()
+class WildcardType extends BasicType {
+
+    private final Bounds bounds;
+
+    private WildcardType(final Core core) {
+        super(core);
+        this.bounds = (Bounds) core.qualifier;
+    }
+
+    static BasicType of(final java.lang.reflect.WildcardType type, final Context context) {
+        return of(map(type.getUpperBounds(), context), map(type.getLowerBounds(), context));
+    }
+
+    /**
+     * @param upper The upper bounds, may be empty, meaning {@code [Object]}.
+     * @param lower The lower bounds, may be empty.
+     */
+    static BasicType of(final List<RawType> upper, final List<RawType> lower) {
+        final Bounds bounds = new Bounds(upper.isEmpty() ? singletonList(RawTypes.map(Object.class)) : upper, lower);
+        return Interner.intern(new Core(bounds.upper.get(0).getPrimeClass(), emptyList(), bounds),
+                               WildcardType::new);
+    }
+
+    @Override
+    final BasicType substitute(final Context context) {
+        final List<RawType> upper = substitute(bounds.upper, context);
+        final List<RawType> lower = substitute(bounds.lower, context);
+        return ((upper == bounds.upper) && (lower == bounds.lower)) ? this : of(upper, lower);
+    }
+
+    private static List<RawType> map(final java.lang.reflect.Type[] types, final Context context) {
+        return unmodifiableList(Stream.of(types)
+                                      .map(type -> RawTypes.map(type, context))
+                                      .collect(Collectors.toList()));
+    }
+
+    @Override
+    final void renderTo(final StringBuilder target, final Notation notation) {
+        final boolean signature = (Notation.SIGNATURE == notation);
+        if (!bounds.lower.isEmpty()) {
+            render(target, notation, signature ? "-" : "? super ", bounds.lower);
+        } else if (Object.class.equals(getPrimeClass())) {
+            target.append(signature ? "*" : "?");
+        } else {
+            render(target, notation, signature ? "+" : "? extends ", bounds.upper);
+        }
+    }
+
+    private static void render(final StringBuilder target, final Notation notation, final String prefix,
+                               final List<RawType> bounds) {
+        target.append(prefix);
+        // A signature can only express a single bound ...
+        final int size = (Notation.SIGNATURE == notation) ? 1 : bounds.size();
+        for (int index = 0; index < size; ++index) {
+            if (0 < index) {
+                target.append(" & ");
+            }
+            target.append(bounds.get(index).getBacking().render(notation));
+        }
+    }
+
+    @Override
+    public final List<String> getFormalParameters() {
+        return emptyList();
+    }
+
+    @Override
+    public final List<RawType> getUpperBounds() {
+        return bounds.upper;
+    }
+
+    @Override
+    public final List<RawType> getLowerBounds() {
+        return bounds.lower;
+    }
+
+    private static final class Bounds {
+
+        private final List<RawType> upper;
+        private final List<RawType> lower;
+
+        private Bounds(final List<RawType> upper, final List<RawType> lower) {
+            this.upper = upper;
+            this.lower = lower;
+        }
+
+        @Override
+        public final int hashCode() {
+            return Objects.hash(upper, lower);
+        }
+
+        @Override
+        public final boolean equals(final Object obj) {
+            return (this == obj) || ((obj instanceof Bounds)
+                    && upper.equals(((Bounds) obj).upper)
+                    && lower.equals(((Bounds) obj).lower));
+        }
+
+        @Override
+        public final String toString() {
+            return "<" + upper + ", " + lower + ">";
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package de.team33.libs.typing.v4;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.lang.reflect.Member;
+
+/**
+ * <p>Records expensive operations as events of the JDK Flight Recorder.</p>
+ * <p>This is the variant for Java 11 and later. As long as the events are not enabled in a running recording, no
+ * event objects are created and {@code begin...()} returns {@code null}.</p>
+ */
+final class Events {
+
+    private static final String CATEGORY = "Team33 Typing";
+    private static final EventType TYPE_CONSTRUCTION = EventType.getEventType(TypeConstruction.class);
+    private static final EventType MEMBER_RESOLUTION = EventType.getEventType(MemberResolution.class);
+    private static final EventType SUPER_TYPES = EventType.getEventType(SuperTypes.class);
+
+    private Events() {
+    }
+
+    static Object beginTypeConstruction() {
+        return TYPE_CONSTRUCTION.isEnabled() ? begin(new TypeConstruction()) : null;
+    }
+
+    static Object beginMemberResolution() {
+        return MEMBER_RESOLUTION.isEnabled() ? begin(new MemberResolution()) : null;
+    }
+
+    static Object beginSuperTypes() {
+        return SUPER_TYPES.isEnabled() ? begin(new SuperTypes()) : null;
+    }
+
+    private static Object begin(final Base event) {
+        event.begin();
+        return event;
+    }
+
+    static void commit(final Object event, final RawType type, final Member member) {
+        if (null == event) {
+            return;
+        }
+        final Base base = (Base) event;
+        base.end();
+        if (base.shouldCommit()) {
+            base.type = type.toString();
+            base.member = (null == member) ? null : member.toString();
+            base.commit();
+        }
+    }
+
+    @Category(CATEGORY)
+    private abstract static class Base extends Event {
+
+        @Label("Type")
+        String type;
+
+        @Label("Member")
+        String member;
+    }
+
+    @Name("de.team33.libs.typing.v4.TypeConstruction")
+    @Label("Type Construction")
+    @Description("Resolution of the type defined by a derivative of Type, once per derivative class")
+    private static final class TypeConstruction extends Base {
+    }
+
+    @Name("de.team33.libs.typing.v4.MemberResolution")
+    @Label("Member Resolution")
+    @Description("Resolution of the type(s) of a field or method in the context of a type")
+    private static final class MemberResolution extends Base {
+    }
+
+    @Name("de.team33.libs.typing.v4.SuperTypes")
+    @Label("Super Types")
+    @Description("Materialization of all the super types of a type")
+    private static final class SuperTypes extends Base {
+    }
+}
@@ -1,5 +1,6 @@
 package de.team33.test.random;
 
+import de.team33.libs.typing.v4.ConcurrentRawTypeMap;
 import de.team33.libs.typing.v4.RawType;
 import de.team33.libs.typing.v4.Type;
 
@@ -8,7 +9,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -168,7 +168,7 @@ public final class Dispenser {
         private final Bounds stringBounds;
 
         private Stage(final Builder builder) {
-            methods = new ConcurrentHashMap<>(builder.methods);
+            methods = new ConcurrentRawTypeMap<>(builder.methods);
             newBasics = builder.newBasics;
             newSelector = builder.newSelector;
             defaultCharset = builder.defaultCharset;
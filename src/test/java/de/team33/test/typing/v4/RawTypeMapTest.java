@@ -0,0 +1,140 @@
+package de.team33.test.typing.v4;
+
+import de.team33.libs.typing.v4.ConcurrentRawTypeMap;
+import de.team33.libs.typing.v4.RawType;
+import de.team33.libs.typing.v4.RawTypeMap;
+import de.team33.libs.typing.v4.Type;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RawTypeMapTest {
+
+    private static final Type<List<String>> LIST_OF_STRING_TYPE = new Type<List<String>>() {
+    };
+    private static final Type<Map<String, List<String>>> MAP_TYPE = new Type<Map<String, List<String>>>() {
+    };
+
+    private static void assertBehaviour(final Map<RawType, String> subject) {
+        assertNull(subject.put(LIST_OF_STRING_TYPE, "list"));
+        assertNull(subject.put(MAP_TYPE, "map"));
+        assertEquals("list", subject.put(new Type<List<String>>() {
+        }, "List<String>"));
+
+        assertEquals(2, subject.size());
+        assertEquals("List<String>", subject.get(LIST_OF_STRING_TYPE));
+        assertEquals("map", subject.get(MAP_TYPE));
+        assertEquals("List<String>", subject.get(MAP_TYPE.getActualParameters().get(1)));
+        assertFalse(subject.containsKey(Type.of(String.class)));
+        assertFalse(subject.containsKey("List<String>"));
+
+        final Map<RawType, String> expected = new HashMap<>();
+        expected.put(LIST_OF_STRING_TYPE, "List<String>");
+        expected.put(MAP_TYPE, "map");
+        assertEquals(expected, subject);
+
+        assertEquals("map", subject.remove(MAP_TYPE));
+        assertNull(subject.remove(MAP_TYPE));
+        assertEquals(1, subject.size());
+        assertTrue(subject.containsKey(LIST_OF_STRING_TYPE));
+    }
+
+    @Test
+    public final void rawTypeMap() {
+        assertBehaviour(new RawTypeMap<>());
+    }
+
+    @Test
+    public final void concurrentRawTypeMap() {
+        assertBehaviour(new ConcurrentRawTypeMap<>());
+    }
+
+    private static List<RawType> manyTypes() {
+        final List<RawType> simple = Arrays.asList(
+                Type.of(String.class), Type.of(Integer.class), Type.of(Long.class), Type.of(Double.class),
+                Type.of(Boolean.class), Type.of(Character.class), Type.of(Byte.class), Type.of(Short.class),
+                Type.of(Float.class), Type.of(Object.class));
+        final List<RawType> pairs = new ArrayList<>(100);
+        simple.forEach(left -> simple.forEach(right -> pairs.add(Type.parameterized(Map.class, left, right))));
+        final List<RawType> result = new ArrayList<>(10000);
+        pairs.forEach(left -> pairs.forEach(right -> result.add(Type.parameterized(Map.class, left, right))));
+        return result;
+    }
+
+    private static void assertSparseKeys(final Map<RawType, String> subject) {
+        final List<RawType> types = manyTypes();
+        final Map<RawType, String> expected = new HashMap<>();
+
+        // a single key with a high id ...
+        final RawType last = types.get(types.size() - 1);
+        subject.put(last, "last");
+        expected.put(last, "last");
+        assertEquals(expected, subject);
+
+        // sparse keys, partially removed again ...
+        for (int index = 0; index < types.size(); index += 7) {
+            subject.put(types.get(index), "#" + index);
+            expected.put(types.get(index), "#" + index);
+        }
+        for (int index = 0; index < types.size(); index += 21) {
+            assertEquals(expected.remove(types.get(index)), subject.remove(types.get(index)));
+        }
+        assertEquals(expected, subject);
+        for (final RawType type : types) {
+            assertEquals(expected.get(type), subject.get(type));
+        }
+
+        subject.clear();
+        assertTrue(subject.isEmpty());
+        assertNull(subject.get(last));
+    }
+
+    @Test
+    public final void rawTypeMapSparse() {
+        assertSparseKeys(new RawTypeMap<>());
+    }
+
+    @Test
+    public final void concurrentRawTypeMapSparse() {
+        assertSparseKeys(new ConcurrentRawTypeMap<>());
+    }
+
+    @Test
+    public final void iteratorRemove() {
+        final List<RawType> types = manyTypes().subList(0, 1000);
+        final RawTypeMap<Integer> subject = new RawTypeMap<>();
+        final Map<RawType, Integer> expected = new HashMap<>();
+        for (int index = 0; index < types.size(); ++index) {
+            subject.put(types.get(index), index);
+            expected.put(types.get(index), index);
+        }
+        int visited = 0;
+        for (final Iterator<Map.Entry<RawType, Integer>> iterator = subject.entrySet().iterator();
+             iterator.hasNext(); ++visited) {
+            final Map.Entry<RawType, Integer> entry = iterator.next();
+            if (0 == (entry.getValue() % 3)) {
+                iterator.remove();
+                expected.remove(entry.getKey());
+            }
+        }
+        assertEquals(types.size(), visited);
+        assertEquals(expected, subject);
+    }
+
+    @Test
+    public final void computeIfAbsent() {
+        final ConcurrentRawTypeMap<String> subject = new ConcurrentRawTypeMap<>();
+        assertEquals("List<String>", subject.computeIfAbsent(LIST_OF_STRING_TYPE, RawType::toString));
+        assertEquals("List<String>", subject.computeIfAbsent(LIST_OF_STRING_TYPE, type -> "other"));
+    }
+}
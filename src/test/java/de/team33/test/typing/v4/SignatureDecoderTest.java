@@ -0,0 +1,86 @@
+package de.team33.test.typing.v4;
+
+import de.team33.libs.typing.v4.Notation;
+import de.team33.libs.typing.v4.RawType;
+import de.team33.libs.typing.v4.SignatureDecoder;
+import de.team33.libs.typing.v4.Type;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+public class SignatureDecoderTest {
+
+    private static final List<RawType> TYPES = Arrays.asList(
+            new Type<Map<String, List<Integer>>>() {
+            },
+            new Type<Map<String, List<? extends Number>>[]>() {
+            },
+            new Type<Map.Entry<?, ? super Integer>>() {
+            },
+            Type.of(int[][].class),
+            Type.of(List.class),
+            Type.of(long.class));
+
+    private static final String OUTER = "Lde/team33/test/typing/v4/SignatureDecoderTest$Outer<Ljava/lang/String;>";
+
+    private final ClassLoader loader = getClass().getClassLoader();
+
+    @SuppressWarnings({"unused", "InnerClassMayBeStatic"})
+    public static class Outer<T> {
+
+        public class Inner {
+        }
+
+        public class Generic<U> {
+        }
+    }
+
+    @Test
+    public final void decodeInner() {
+        assertEquals(new Type<Outer<String>.Inner>() {
+        }, SignatureDecoder.decode(OUTER + ".Inner;", loader));
+        assertEquals(new Type<Outer<String>.Generic<Integer>>() {
+        }, SignatureDecoder.decode(OUTER + ".Generic<Ljava/lang/Integer;>;", loader));
+    }
+
+    @Test
+    public final void decode() {
+        assertEquals(TYPES.get(0), SignatureDecoder.decode(
+                "Ljava/util/Map<Ljava/lang/String;Ljava/util/List<Ljava/lang/Integer;>;>;", loader));
+        for (final RawType type : TYPES) {
+            assertEquals(type, SignatureDecoder.decode(type.toString(Notation.SIGNATURE), loader));
+        }
+    }
+
+    @Test
+    public final void stream() {
+        final StringBuilder signatures = new StringBuilder();
+        TYPES.forEach(type -> type.appendTo(signatures, Notation.SIGNATURE));
+
+        final SignatureDecoder decoder = new SignatureDecoder(signatures, loader);
+        for (final RawType type : TYPES) {
+            assertEquals(type, decoder.next());
+        }
+        assertFalse(decoder.hasNext());
+    }
+
+    @Test
+    public final void decodeIllegal() {
+        for (final String signature : new String[]{
+                "", "X", "Ljava/lang/String", "Ljava/util/List<Ljava/lang/String;", "TT;", "Ljava/util/NoSuchClass;",
+                "Ljava/util/List<Ljava/lang/String;Ljava/lang/String;>;", "Ljava/util/List<I>;", "II"}) {
+            try {
+                SignatureDecoder.decode(signature, loader);
+                fail("expected to fail: <" + signature + ">");
+            } catch (final IllegalArgumentException e) {
+                // as expected
+            }
+        }
+    }
+}
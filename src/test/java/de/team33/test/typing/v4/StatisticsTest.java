@@ -0,0 +1,67 @@
+package de.team33.test.typing.v4;
+
+import de.team33.libs.typing.v4.Instrumentation;
+import de.team33.libs.typing.v4.RawType;
+import de.team33.libs.typing.v4.Statistics;
+import de.team33.libs.typing.v4.Type;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StatisticsTest {
+
+    private final Statistics statistics = new Statistics();
+
+    @After
+    public final void after() {
+        Instrumentation.uninstall();
+    }
+
+    @Test
+    public final void snapshot() throws NoSuchMethodException {
+        Instrumentation.install(statistics);
+        final RawType type = new Type<ArrayList<StatisticsTest>>() {
+        };
+        type.returnTypeOf(AbstractList.class.getMethod("get", int.class));
+        type.returnTypeOf(AbstractList.class.getMethod("get", int.class));
+        type.isAssignableFrom(type);
+
+        final Statistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(2, snapshot.getResolutions());
+        assertEquals(2, Arrays.stream(snapshot.getResolutionHistogram()).sum());
+        assertTrue(snapshot.toString(), 0 < snapshot.getMappings().get(Instrumentation.Kind.TYPE_VARIABLE));
+        assertTrue(snapshot.toString(), 0 < snapshot.getCacheHits().get(Instrumentation.Cache.RESOLVED));
+        assertTrue(snapshot.toString(), 0 < snapshot.getCacheMisses().get(Instrumentation.Cache.ASSIGNABLE));
+        assertTrue(snapshot.toString(), 0 < snapshot.getHierarchies());
+        assertTrue(snapshot.toString(), 2 <= snapshot.getMaxHierarchyDepth());
+
+        Instrumentation.uninstall();
+        type.returnTypeOf(List.class.getMethod("get", int.class));
+        assertEquals(2, statistics.snapshot().getResolutions());
+
+        statistics.reset();
+        assertEquals(0, statistics.snapshot().getResolutions());
+    }
+
+    @Test
+    public final void registerMBean() throws Exception {
+        final ObjectName name = statistics.registerMBean();
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(0L, server.getAttribute(name, "Resolutions"));
+            server.invoke(name, "reset", new Object[0], new String[0]);
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
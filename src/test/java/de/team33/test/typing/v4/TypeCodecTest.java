@@ -0,0 +1,139 @@
+package de.team33.test.typing.v4;
+
+import de.team33.libs.typing.v4.RawType;
+import de.team33.libs.typing.v4.Type;
+import de.team33.libs.typing.v4.TypeCodec;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TypeCodecTest {
+
+    private static final Type<Map<String, List<? extends Number>>[]> MAP_ARRAY_TYPE =
+            new Type<Map<String, List<? extends Number>>[]>() {
+            };
+    private static final List<RawType> TYPES = Arrays.asList(
+            MAP_ARRAY_TYPE,
+            Type.of(int[].class),
+            Type.of(List.class),
+            new Type<Map<? super Integer, ?>>() {
+            },
+            Type.of(int.class),
+            Type.of(void.class));
+
+    private static Object serialized(final Object subject) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(subject);
+        }
+        try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+
+    @Test
+    public final void encodeDecode() throws IOException, ClassNotFoundException {
+        for (final RawType type : TYPES) {
+            assertEquals(type, TypeCodec.decode(TypeCodec.encode(type), getClass().getClassLoader()));
+        }
+    }
+
+    @Test
+    public final void stream() throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final TypeCodec.Encoder encoder = new TypeCodec.Encoder(bytes);
+        for (final RawType type : TYPES) {
+            encoder.write(type);
+        }
+        final int size = bytes.size();
+        encoder.write(MAP_ARRAY_TYPE);
+        // the class names are known by now ...
+        assertTrue(bytes.size() - size < 16);
+
+        final TypeCodec.Decoder decoder =
+                new TypeCodec.Decoder(new ByteArrayInputStream(bytes.toByteArray()), getClass().getClassLoader());
+        for (final RawType type : TYPES) {
+            assertEquals(type, decoder.read());
+        }
+        assertEquals(MAP_ARRAY_TYPE, decoder.read());
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public final void decodeCorrupted() throws IOException, ClassNotFoundException {
+        TypeCodec.decode(new byte[]{7}, getClass().getClassLoader());
+    }
+
+    @Test
+    public final void decodeIllegalLengths() throws ClassNotFoundException {
+        final byte[] minusOne = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F};
+        final byte[] maxInt = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        final List<byte[]> inputs = Arrays.asList(
+                concat(new byte[]{0, 0}, minusOne),  // class name of negative length
+                concat(new byte[]{0, 0}, maxInt),    // class name of huge length
+                concat(new byte[]{0}, minusOne),     // negative class reference
+                concat(new byte[]{3}, minusOne),     // negative number of bounds
+                concat(new byte[]{3}, maxInt));      // huge number of bounds
+        for (final byte[] input : inputs) {
+            try {
+                TypeCodec.decode(input, getClass().getClassLoader());
+                fail("expected to fail: " + Arrays.toString(input));
+            } catch (final IOException e) {
+                // as expected
+            }
+        }
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public final void decodeTooDeep() throws IOException, ClassNotFoundException {
+        // an array of an array of an array ... (kind 2), never terminated by a component type ...
+        final byte[] bytes = new byte[100000];
+        Arrays.fill(bytes, (byte) 2);
+        TypeCodec.decode(bytes, getClass().getClassLoader());
+    }
+
+    @Test
+    public final void decodeDeep() throws IOException, ClassNotFoundException {
+        RawType type = new Type<List<String>>() {
+        };
+        for (int level = 0; level < 100; ++level) {
+            type = Type.parameterized(List.class, type);
+        }
+        assertEquals(type, TypeCodec.decode(TypeCodec.encode(type), getClass().getClassLoader()));
+    }
+
+    private static byte[] concat(final byte[] head, final byte[] tail) {
+        final byte[] result = Arrays.copyOf(head, head.length + tail.length);
+        System.arraycopy(tail, 0, result, head.length, tail.length);
+        return result;
+    }
+
+    @Test
+    public final void serialize() throws IOException, ClassNotFoundException {
+        final Object result = serialized(MAP_ARRAY_TYPE);
+        assertEquals(MAP_ARRAY_TYPE, result);
+        assertSame(Type.arrayOf(new Type<Map<String, List<? extends Number>>>() {
+        }), result);
+        assertSame(Type.of(String.class), serialized(Type.of(String.class)));
+        assertSame(Type.of(int.class), serialized(Type.of(int.class)));
+        assertSame(Type.of(void.class), serialized(Type.of(void.class)));
+    }
+
+    @Test(expected = NotSerializableException.class)
+    public final void serializeVariable() throws IOException, ClassNotFoundException, NoSuchMethodException {
+        serialized(Type.of(List.class).returnTypeOf(List.class.getMethod("get", int.class)));
+    }
+}
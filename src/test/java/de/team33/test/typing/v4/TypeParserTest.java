@@ -0,0 +1,126 @@
+package de.team33.test.typing.v4;
+
+import de.team33.libs.typing.v4.Notation;
+import de.team33.libs.typing.v4.RawType;
+import de.team33.libs.typing.v4.Type;
+import de.team33.libs.typing.v4.TypeParser;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TypeParserTest {
+
+    private final TypeParser parser = TypeParser.using(getClass().getClassLoader(), "java.util", "java.util.Map");
+
+    @Test
+    public final void parseQualified() {
+        final Type<Map<String, List<Integer>>[]> expected = new Type<Map<String, List<Integer>>[]>() {
+        };
+        final RawType result = parser.parse(
+                "java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>[]");
+        assertEquals(expected, result);
+        assertEquals(expected.toString(), result.toString());
+        assertEquals(expected, parser.parse(expected.toString(Notation.CANONICAL)));
+    }
+
+    @Test
+    public final void parseToString() {
+        final Type<Map<? extends Number, List<? super Integer>>> type =
+                new Type<Map<? extends Number, List<? super Integer>>>() {
+                };
+        assertEquals(type, parser.parse(type.toString()));
+    }
+
+    @Test
+    public final void parseSimple() {
+        assertEquals(Type.of(int[][].class), parser.parse("int [] []"));
+        assertEquals(Type.of(String[].class), parser.parse("String[]"));
+        assertEquals(new Type<List<Map.Entry<String, ?>>>() {
+        }, parser.parse("List<Entry<String,?>>"));
+        assertEquals(new Type<Map.Entry<String, String>>() {
+        }, parser.parse("java.util.Map$Entry<String, String>"));
+    }
+
+    @Test
+    public final void parseNested() {
+        final RecordingLoader loader = new RecordingLoader();
+        final TypeParser parser = TypeParser.using(loader);
+        assertEquals(new Type<Map.Entry<String, String>>() {
+        }, parser.parse("java.util.Map.Entry<String, String>"));
+
+        final String name = "de.team33.test.typing.v4.TypeParserTest.Outer.Inner.Deepest";
+        final int start = loader.requested.size();
+        assertEquals(Type.of(Outer.Inner.Deepest.class), parser.parse(name));
+        assertEquals(Arrays.asList(name,
+                                   "de.team33.test.typing.v4.TypeParserTest.Outer.Inner",
+                                   "de.team33.test.typing.v4.TypeParserTest.Outer",
+                                   "de.team33.test.typing.v4.TypeParserTest",
+                                   "de.team33.test.typing.v4.TypeParserTest$Outer$Inner$Deepest"),
+                     loader.requested.subList(start, loader.requested.size()));
+    }
+
+    @Test
+    public final void parseUnknownDeep() {
+        final RecordingLoader loader = new RecordingLoader();
+        final TypeParser parser = TypeParser.using(loader);
+        try {
+            parser.parse("org.example.no.such.Outer.Inner");
+            fail("expected to fail");
+        } catch (final IllegalArgumentException e) {
+            // as expected
+        }
+        assertTrue(loader.requested.toString(), loader.requested.contains("org.example.no.such.Outer.Inner"));
+        assertTrue(loader.requested.toString(), loader.requested.contains("org.example"));
+        assertTrue(loader.requested.toString(), loader.requested.stream().noneMatch(name -> name.contains("$")));
+    }
+
+    @Test
+    public final void parseCached() {
+        assertSame(parser.parse("java.util.List<String>"), parser.parse(new StringBuilder("java.util.List<String>")));
+    }
+
+    @Test
+    public final void parseIllegal() {
+        for (final String descriptor : new String[]{
+                "", "List<", "List<String", "List<String>>", "List<int>", "List<String, String>", "NoSuchClass",
+                "String<Integer>", "String[", "?", "List<? extends>"}) {
+            try {
+                parser.parse(descriptor);
+                fail("expected to fail: <" + descriptor + ">");
+            } catch (final IllegalArgumentException e) {
+                // as expected
+            }
+        }
+    }
+
+    public static class Outer {
+        public static class Inner {
+            public static class Deepest {
+            }
+        }
+    }
+
+    private static class RecordingLoader extends ClassLoader {
+
+        private final List<String> requested = new ArrayList<>();
+
+        private RecordingLoader() {
+            super(TypeParserTest.class.getClassLoader());
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(final String name, final boolean resolve)
+                throws ClassNotFoundException {
+            requested.add(name);
+            return super.loadClass(name, resolve);
+        }
+    }
+}
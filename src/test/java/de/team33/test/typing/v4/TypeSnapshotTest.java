@@ -0,0 +1,106 @@
+package de.team33.test.typing.v4;
+
+import de.team33.libs.typing.v4.RawType;
+import de.team33.libs.typing.v4.Type;
+import de.team33.libs.typing.v4.TypeSnapshot;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class TypeSnapshotTest {
+
+    private static final List<RawType> TYPES = Arrays.asList(
+            new Type<Map<String, List<? extends Number>>[]>() {
+            },
+            Type.of(int[].class),
+            Type.of(List.class),
+            new Type<ArrayList<String>>() {
+            },
+            new Type<Map<? super Integer, ?>>() {
+            },
+            Type.of(int.class),
+            Type.of(void.class));
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public final void writeAndMap() throws IOException {
+        final Path path = temp.newFile().toPath();
+        TypeSnapshot.write(TYPES, path);
+
+        final TypeSnapshot snapshot = TypeSnapshot.map(path, getClass().getClassLoader());
+        assertEquals(TYPES.size(), snapshot.size());
+        assertEquals(TYPES, snapshot.getTypes());
+        assertSame(snapshot.get(3), snapshot.get(3));
+        assertEquals(TYPES.get(3).getAllSuperTypes(), snapshot.get(3).getAllSuperTypes());
+    }
+
+    @Test
+    public final void mismatch() throws IOException {
+        final Path path = temp.newFile().toPath();
+        TypeSnapshot.write(singletonList(new Type<List<String>>() {
+        }), path);
+        final String content = new String(Files.readAllBytes(path), StandardCharsets.ISO_8859_1);
+        Files.write(path, content.replace("java.util.List", "java.util.Lisx").getBytes(StandardCharsets.ISO_8859_1));
+
+        final TypeSnapshot snapshot = TypeSnapshot.map(path, getClass().getClassLoader());
+        try {
+            snapshot.get(0);
+            fail("expected to fail");
+        } catch (final IllegalStateException e) {
+            // as expected
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void writeVariable() throws IOException, NoSuchMethodException {
+        final RawType variable = Type.of(List.class).returnTypeOf(List.class.getMethod("get", int.class));
+        TypeSnapshot.write(singletonList(variable), temp.newFile().toPath());
+    }
+
+    @Test(expected = IOException.class)
+    public final void mapHugeCount() throws IOException {
+        final Path path = temp.newFile().toPath();
+        Files.write(path, ByteBuffer.allocate(12).putInt(0x54333354).putInt(1).putInt(0x7f000000).array());
+        TypeSnapshot.map(path, getClass().getClassLoader());
+    }
+
+    @Test
+    public final void mapTruncated() throws IOException {
+        final Path path = temp.newFile().toPath();
+        TypeSnapshot.write(TYPES, path);
+        final byte[] bytes = Files.readAllBytes(path);
+        for (int length = 8; length < bytes.length; ++length) {
+            Files.write(path, Arrays.copyOf(bytes, length));
+            try {
+                TypeSnapshot.map(path, getClass().getClassLoader()).getTypes().forEach(RawType::toString);
+                fail("expected to fail with a snapshot truncated to " + length + " bytes");
+            } catch (final IOException | IllegalStateException e) {
+                // as expected
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public final void mapIllegal() throws IOException {
+        final Path path = temp.newFile().toPath();
+        Files.write(path, "no snapshot".getBytes(StandardCharsets.UTF_8));
+        TypeSnapshot.map(path, getClass().getClassLoader());
+    }
+}
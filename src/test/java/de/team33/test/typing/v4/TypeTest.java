@@ -1,5 +1,8 @@
 package de.team33.test.typing.v4;
 
+import de.team33.libs.typing.v4.Members;
+import de.team33.libs.typing.v4.Notation;
+import de.team33.libs.typing.v4.Prewarmed;
 import de.team33.libs.typing.v4.RawType;
 import de.team33.libs.typing.v4.Type;
 import de.team33.test.typing.shared.Fixed;
@@ -9,16 +12,27 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.StringWriter;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 @SuppressWarnings("ClassWithTooManyMethods")
@@ -113,6 +127,136 @@ public class TypeTest {
                     .typeOf(field));
     }
 
+    @Test
+    public final void typeOfMemorized() throws NoSuchFieldException {
+        final Field field = Generic.class.getField("t2uMap");
+        assertSame(GENERIC_TYPE.typeOf(field), new Type<Generic<String, List<String>, Map<String, List<String>>>>() {
+        }.typeOf(Generic.class.getField("t2uMap")));
+    }
+
+    @Test
+    public final void getMembers() throws NoSuchFieldException, NoSuchMethodException {
+        final Members members = Type.of(Fixed.class).getMembers();
+        assertSame(members, Type.of(Fixed.class).getMembers());
+        assertEquals(Type.of(String.class), members.typeOf(Generic.class.getDeclaredField("tField")));
+        assertEquals(
+                singletonList(Type.of(String[].class)),
+                members.parameterTypesOf(Interface.class.getMethod("setTArray", Object[].class)));
+        assertEquals(
+                Type.of(Fixed.class),
+                members.returnTypeOf(Interface.class.getMethod("setStringField", String.class)));
+    }
+
+    @Test
+    public final void typeOfUnbound() throws NoSuchFieldException, NoSuchMethodException {
+        final RawType elementType = Type.of(List.class).returnTypeOf(List.class.getMethod("get", int.class));
+        assertTrue(elementType.isVariable());
+        assertEquals("E", elementType.toString());
+        assertSame(Object.class, elementType.getPrimeClass());
+        assertEquals(singletonList(Type.of(Object.class)), elementType.getUpperBounds());
+
+        final RawType mapType = RAW_GENERIC_TYPE.typeOf(Generic.class.getField("t2uMap"));
+        assertEquals("Map<T, U>", mapType.toString());
+        assertEquals(
+                GENERIC_TYPE.typeOf(Generic.class.getField("t2uMap")),
+                mapType.resolve(name -> GENERIC_TYPE.getActualParameter(name)));
+        assertEquals("Map<String, U>", mapType.resolve(name -> "T".equals(name) ? Type.of(String.class) : null)
+                                              .toString());
+        assertSame(LIST_OF_STRING_TYPE, LIST_OF_STRING_TYPE.resolve(name -> Type.of(Integer.class)));
+    }
+
+    @Test
+    public final void returnTypeOfGenericMethod() throws NoSuchMethodException {
+        final RawType arrayType = LIST_OF_STRING_TYPE.returnTypeOf(List.class.getMethod("toArray", Object[].class));
+        assertEquals("T[]", arrayType.toString());
+        assertSame(Object[].class, arrayType.getPrimeClass());
+    }
+
+    @Test
+    public final void asSuperType() {
+        assertEquals(
+                Optional.of(new Type<Collection<String>>() {
+                }),
+                new Type<ArrayList<String>>() {
+                }.asSuperType(Collection.class));
+        assertEquals(Optional.of(GENERIC_TYPE), Type.of(Fixed.class).asSuperType(Generic.class));
+        assertEquals(Optional.empty(), Type.of(Fixed.class).asSuperType(List.class));
+    }
+
+    @Test
+    public final void isAssignableFrom() {
+        final Type<Collection<? extends CharSequence>> charSequences = new Type<Collection<? extends CharSequence>>() {
+        };
+        assertTrue(charSequences.isAssignableFrom(new Type<ArrayList<String>>() {
+        }));
+        assertFalse(charSequences.isAssignableFrom(new Type<ArrayList<Object>>() {
+        }));
+        assertFalse(new Type<List<Object>>() {
+        }.isAssignableFrom(new Type<ArrayList<String>>() {
+        }));
+        assertTrue(new Type<Comparable<? super String>>() {
+        }.isAssignableFrom(Type.of(String.class)));
+        assertTrue(new Type<Comparator<? super Integer>>() {
+        }.isAssignableFrom(new Type<Comparator<Number>>() {
+        }));
+        assertTrue(LIST_OF_STRING_TYPE.isAssignableFrom(Type.of(ArrayList.class)));
+        assertTrue(Type.of(Number[].class).isAssignableFrom(Type.of(Integer[].class)));
+        assertTrue(Type.of(Object.class).isAssignableFrom(Type.of(int[].class)));
+        assertFalse(Type.of(int.class).isAssignableFrom(Type.of(Integer.class)));
+        assertTrue(GENERIC_TYPE.isAssignableFrom(Type.of(Fixed.class)));
+        assertFalse(Type.of(Fixed.class).isAssignableFrom(GENERIC_TYPE));
+    }
+
+    @Test
+    public final void isAssignableFromRawView() throws NoSuchMethodException {
+        final RawType listOfE = Type.of(List.class).getMembers()
+                                    .returnTypeOf(List.class.getMethod("subList", int.class, int.class));
+        assertEquals("List<E>", listOfE.toString());
+        assertFalse(LIST_OF_STRING_TYPE.isAssignableFrom(listOfE));
+        assertTrue(Type.of(List.class).isAssignableFrom(listOfE));
+        assertTrue(LIST_OF_STRING_TYPE.isAssignableFrom(Type.of(List.class)));
+    }
+
+    @Test
+    public final void isAssignableFromDoesNotPinSource() throws InterruptedException {
+        final Type<Object> target = Type.of(Object.class);
+        Type<?> source = Type.parameterized(ArrayList.class,
+                                            Type.parameterized(Map.class, Type.of(Byte.class), Type.of(Short.class)));
+        assertTrue(target.isAssignableFrom(source));
+        assertTrue(target.isAssignableFrom(source));
+
+        final WeakReference<Type<?>> reference = new WeakReference<>(source);
+        //noinspection UnusedAssignment
+        source = null;
+        for (int attempt = 0; (null != reference.get()) && (attempt < 50); ++attempt) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
+    @Test
+    public final void mappingJdkClassesDoesNotPinLibraryLoader() throws Exception {
+        final WeakReference<ClassLoader> reference = mapJdkClassesByThrowawayLoader();
+        for (int attempt = 0; (null != reference.get()) && (attempt < 50); ++attempt) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
+    private static WeakReference<ClassLoader> mapJdkClassesByThrowawayLoader() throws Exception {
+        final URL location = Type.class.getProtectionDomain().getCodeSource().getLocation();
+        try (final URLClassLoader loader = new URLClassLoader(new URL[]{location}, null)) {
+            final Method of = loader.loadClass(Type.class.getName()).getMethod("of", Class.class);
+            final Object arrayListType = of.invoke(null, ArrayList.class);
+            assertEquals("[AbstractList<E>, List<E>, RandomAccess, Cloneable, Serializable]",
+                         arrayListType.getClass().getMethod("getSuperTypeList").invoke(arrayListType).toString());
+            assertEquals("String[]", of.invoke(null, String[].class).toString());
+            return new WeakReference<>(loader);
+        }
+    }
+
     @Test
     public final void getSuperType() {
         assertEquals(Optional.of(GENERIC_TYPE), Type.of(Fixed.class).getSuperType());
@@ -216,6 +360,28 @@ public class TypeTest {
         );
     }
 
+    @Test
+    public final void getAllSuperTypes() {
+        assertEquals(
+                Arrays.asList(
+                        GENERIC_TYPE,
+                        Type.of(Object.class),
+                        new Type<Interface<String, List<String>, Map<String, List<String>>, Fixed>>() {}
+                ),
+                Type.of(Fixed.class).getAllSuperTypes()
+        );
+        assertEquals(Collections.emptyList(), Type.of(Object.class).getAllSuperTypes());
+    }
+
+    @Test
+    public final void hasSuperType() {
+        final Type<ArrayList<String>> arrayListType = new Type<ArrayList<String>>() {};
+        assertTrue(arrayListType.hasSuperType(new Type<Collection<String>>() {}));
+        assertTrue(arrayListType.hasSuperType(Type.of(Object.class)));
+        assertFalse(arrayListType.hasSuperType(new Type<Collection<Object>>() {}));
+        assertFalse(arrayListType.hasSuperType(arrayListType));
+    }
+
     @Test
     public final void testIntToString() {
         assertEquals("int", Type.of(Integer.TYPE).toString());
@@ -259,6 +425,40 @@ public class TypeTest {
         }.toString());
     }
 
+    @Test
+    public final void testWildcardToString() {
+        assertEquals("Map<?, List<? extends Number>>", new Type<Map<?, List<? extends Number>>>() {
+        }.toString());
+        assertEquals("Comparator<? super String>", new Type<Comparator<? super String>>() {
+        }.toString());
+    }
+
+    @Test
+    public final void testWildcard() {
+        final RawType wildcard = new Type<List<? extends Number>>() {
+        }.getActualParameters().get(0);
+        assertTrue(wildcard.isWildcard());
+        assertSame(Number.class, wildcard.getPrimeClass());
+        assertEquals(singletonList(Type.of(Number.class)), wildcard.getUpperBounds());
+        assertEquals(emptyList(), wildcard.getLowerBounds());
+        assertNotEquals(Type.of(Number.class), wildcard);
+        assertEquals(new Type<List<? extends Number>>() {
+        }, new Type<List<? extends Number>>() {
+        });
+        assertNotEquals(new Type<List<? extends Number>>() {
+        }, new Type<List<? super Number>>() {
+        });
+    }
+
+    @Test
+    public final void parameterTypesOfWildcard() throws NoSuchMethodException {
+        final Method method = Collection.class.getMethod("addAll", Collection.class);
+        assertEquals(
+                singletonList(new Type<Collection<? extends String>>() {
+                }),
+                LIST_OF_STRING_TYPE.parameterTypesOf(method));
+    }
+
     @Test
     public final void testEquals() {
         assertEquals(GENERIC_TYPE, new Type<Generic<String, List<String>, Map<String, List<String>>>>() {
@@ -279,6 +479,141 @@ public class TypeTest {
         );
     }
 
+    @Test
+    public final void testCanonical() {
+        final RawType listType = new Type<Map<String, List<String>>>() {
+        }.getActualParameters().get(1);
+        assertSame(GENERIC_TYPE.getActualParameters().get(1), listType);
+        assertSame(GENERIC_TYPE.getActualParameters().get(2).getActualParameters().get(1), listType);
+    }
+
+    @Test
+    public final void getSuperTypeList() {
+        final RawType type = new Type<ArrayList<String>>() {
+        };
+        final List<RawType> superTypes = type.getSuperTypeList();
+        assertSame(superTypes, type.getSuperTypeList());
+        assertSame(type.getInterfaceTypeList(), new Type<ArrayList<String>>() {
+        }.getInterfaceTypeList());
+        assertEquals(superTypes, type.getSuperTypes().collect(Collectors.toList()));
+        assertEquals(type.getSuperType().get(), superTypes.get(0));
+        assertEquals(type.getInterfaceTypeList(), superTypes.subList(1, superTypes.size()));
+        assertEquals("AbstractList<String>", type.getSuperType().get().toString());
+        assertEquals(emptyList(), Type.of(Object.class).getSuperTypeList());
+        assertEquals(singletonList(Type.of(Object.class)), new Type<List<String>[]>() {
+        }.getSuperTypeList().subList(0, 1));
+    }
+
+    @Test
+    public final void prewarm() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Prewarmed result = Type.prewarm(Arrays.asList(ArrayList.class, HashMap.class, String.class,
+                                                                Fixed.class.getGenericSuperclass()),
+                                                  executor).get();
+            assertEquals(Arrays.asList(Type.of(ArrayList.class), Type.of(HashMap.class), Type.of(String.class),
+                                       Type.of(Fixed.class).getSuperType().get()),
+                         result.getTypes());
+            assertEquals(emptyMap(), result.getFailures());
+            assertTrue(result.toString(), 0 < result.getSuperTypes());
+            assertTrue(result.toString(), 0 < result.getMembers());
+            assertSame(result.getTypes().get(0).getMembers(), Type.of(ArrayList.class).getMembers());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public final void toStringNotation() throws IOException {
+        final RawType type = new Type<Map<String, List<? extends Number>>[]>() {
+        };
+        assertEquals("Map<String, List<? extends Number>>[]", type.toString(Notation.SIMPLE));
+        assertEquals("java.util.Map<java.lang.String, java.util.List<? extends java.lang.Number>>[]",
+                     type.toString(Notation.CANONICAL));
+        assertEquals("[Ljava/util/Map<Ljava/lang/String;Ljava/util/List<+Ljava/lang/Number;>;>;",
+                     type.toString(Notation.SIGNATURE));
+        assertSame(type.toString(Notation.CANONICAL), type.toString(Notation.CANONICAL));
+        assertEquals(type.toString(), type.toString(Notation.SIMPLE));
+
+        assertEquals("I", Type.of(int.class).toString(Notation.SIGNATURE));
+        assertEquals("Ljava/util/Map$Entry<*-Ljava/lang/Integer;>;", new Type<Map.Entry<?, ? super Integer>>() {
+        }.toString(Notation.SIGNATURE));
+        assertEquals("java.util.Map.Entry<?, ? super java.lang.Integer>", new Type<Map.Entry<?, ? super Integer>>() {
+        }.toString(Notation.CANONICAL));
+
+        final StringBuilder builder = new StringBuilder("type: ");
+        assertSame(builder, type.appendTo(builder, Notation.SIMPLE));
+        assertEquals("type: " + type, builder.toString());
+        final Appendable appendable = new StringWriter();
+        type.appendTo(appendable, Notation.CANONICAL);
+        assertEquals(type.toString(Notation.CANONICAL), appendable.toString());
+    }
+
+    @Test
+    public final void parameterized() {
+        final Type<List<String>> listType = Type.parameterized(List.class, Type.of(String.class));
+        final Type<Map<String, List<String>>> mapType =
+                Type.parameterized(Map.class, Type.of(String.class), listType);
+        assertMapStringToListOfString(mapType);
+        assertEquals(new Type<Map<String, List<String>>>() {
+        }, mapType);
+        assertSame(mapType, Type.parameterized(Map.class, Type.of(String.class), LIST_OF_STRING_TYPE));
+        assertSame(Type.of(String.class), Type.of(String.class));
+    }
+
+    @Test
+    public final void parameterizedIllegal() {
+        final List<Runnable> attempts = Arrays.asList(
+                () -> Type.parameterized(List.class),
+                () -> Type.parameterized(Map.class, Type.of(String.class)),
+                () -> Type.parameterized(String.class, Type.of(String.class)),
+                () -> Type.parameterized(List.class, Type.of(int.class)),
+                () -> Type.parameterized(List.class, Type.of(List.class).getMembers()
+                                                         .returnTypeOf(getMethod(List.class, "get", int.class))),
+                () -> Type.arrayOf(Type.of(void.class)),
+                () -> Type.arrayOf(Type.of(int.class)));
+        for (final Runnable attempt : attempts) {
+            try {
+                attempt.run();
+                fail("expected to fail");
+            } catch (final IllegalArgumentException e) {
+                // as expected
+            }
+        }
+    }
+
+    @Test
+    public final void arrayOf() {
+        final Type<List<String>[]> arrayType = Type.arrayOf(LIST_OF_STRING_TYPE);
+        assertStringListArrayType(arrayType);
+        assertEquals(new Type<List<String>[]>() {
+        }, arrayType);
+        assertSame(arrayType, Type.arrayOf(LIST_OF_STRING_TYPE));
+        assertSame(Type.of(int[][].class), Type.arrayOf(Type.of(int[].class)));
+    }
+
+    @Test
+    public final void arrayOfRawType() throws NoSuchFieldException {
+        final RawType componentType = GENERIC_TYPE.typeOf(Generic.class.getField("t2uMap"));
+        assertEquals(new Type<Map<String, List<String>>[]>() {
+        }, Type.arrayOf(componentType));
+        assertSame(Type.of(int[].class), Type.arrayOf((RawType) Type.of(int.class)));
+        try {
+            Type.arrayOf(Type.of(List.class).returnTypeOf(getMethod(List.class, "get", int.class)));
+            fail("expected to fail");
+        } catch (final IllegalArgumentException e) {
+            // as expected
+        }
+    }
+
+    private static Method getMethod(final Class<?> type, final String name, final Class<?>... parameters) {
+        try {
+            return type.getMethod(name, parameters);
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
     private static void assertIntType(final RawType intType) {
         assertSame(Integer.TYPE, intType.getPrimeClass());
         assertEquals(0, intType.getActualParameters().size());
@@ -0,0 +1,57 @@
+package de.team33.test.typing.v4;
+
+import de.team33.libs.typing.v4.RawType;
+import de.team33.libs.typing.v4.Type;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EventsTest {
+
+    private static final String PREFIX = "de.team33.libs.typing.v4.";
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public final void recorded() throws Exception {
+        final Path path = temp.getRoot().toPath().resolve("events.jfr");
+        try (final Recording recording = new Recording()) {
+            recording.enable(PREFIX + "TypeConstruction");
+            recording.enable(PREFIX + "MemberResolution");
+            recording.enable(PREFIX + "SuperTypes");
+            recording.start();
+
+            final RawType type = new Type<Map<Short, Set<Function<Byte, Character>>>>() {
+            };
+            type.getAllSuperTypes();
+            type.returnTypeOf(Map.class.getMethod("keySet"));
+
+            recording.stop();
+            recording.dump(path);
+        }
+
+        final Map<String, List<RecordedEvent>> events =
+                RecordingFile.readAllEvents(path).stream()
+                             .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+        final String expected = "Map<Short, Set<Function<Byte, Character>>>";
+        assertEquals(expected, events.get(PREFIX + "TypeConstruction").get(0).getString("type"));
+        assertEquals(expected, events.get(PREFIX + "SuperTypes").get(0).getString("type"));
+        final RecordedEvent resolution = events.get(PREFIX + "MemberResolution").get(0);
+        assertEquals(expected, resolution.getString("type"));
+        assertTrue(resolution.getString("member"), resolution.getString("member").contains("keySet"));
+    }
+}